@@ -0,0 +1,47 @@
+package com.red.yogaback.config;
+
+import com.red.yogaback.constant.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * id_generator 테이블의 다음 id를 각 테이블의 기존 최대 id 이후로 맞춥니다.
+ * - IDENTITY로 저장된 기존 행과 새 id가 겹치지 않도록, 요청을 받기 전(빈 초기화 시점)에 실행합니다.
+ * - 이미 더 큰 값이면 그대로 두므로 재시작해도 안전합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorInitConfig {
+
+    // 세그먼트 -> (테이블, id 컬럼)
+    private static final Map<String, String[]> SEGMENTS = Map.of(
+            IdGenerators.POSE_RECORD, new String[]{"pose_record", "pose_record_id"},
+            IdGenerators.ROOM_COURSE_POSE, new String[]{"room_course_pose", "room_course_pose_id"},
+            IdGenerators.USER_COURSE_POSE, new String[]{"user_course_pose", "user_course_pose_id"},
+            IdGenerators.USER_BADGE, new String[]{"user_badge", "user_badge_id"},
+            IdGenerators.ROOM_RECORD, new String[]{"room_record", "room_record_id"}
+    );
+
+    // 스키마(ddl-auto)가 만들어진 뒤 실행되도록 EntityManagerFactory에 의존
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEGMENTS.forEach((segment, target) -> {
+            // 블록 하나(ALLOCATION_SIZE) 여유를 두어 최대 id 이하 값이 배정되지 않도록 함
+            String sql = "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.PK_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") " +
+                    "SELECT ?, COALESCE(MAX(" + target[1] + "), 0) + " + (IdGenerators.ALLOCATION_SIZE + 1) + " FROM " + target[0] + " " +
+                    "ON DUPLICATE KEY UPDATE " + IdGenerators.VALUE_COLUMN + " = GREATEST(" + IdGenerators.VALUE_COLUMN + ", VALUES(" + IdGenerators.VALUE_COLUMN + "))";
+            jdbcTemplate.update(sql, segment);
+        });
+        log.info("id_generator 정렬 완료: {}", SEGMENTS.keySet());
+    }
+}
@@ -0,0 +1,46 @@
+package com.red.yogaback.config;
+
+import com.red.yogaback.model.JobCheckpoint;
+import com.red.yogaback.repository.JobCheckpointRepository;
+import com.red.yogaback.repository.UserPoseStatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 PoseRecord로 UserPoseStats를 한 번 채웁니다. (도입 시점 마이그레이션)
+ * - 새 기록이 먼저 집계되지 않도록 요청을 받기 전(빈 초기화 시점)에 실행합니다.
+ * - 완료 표시는 JobCheckpoint에 남기고, 재구성 쿼리는 여러 인스턴스가 동시에 실행해도 결과가 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserPoseStatsInitConfig {
+
+    private static final String JOB_NAME = "user-pose-stats-rebuild";
+
+    // 스키마(ddl-auto)가 만들어진 뒤 실행되도록 EntityManagerFactory에 의존
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserPoseStatsRepository userPoseStatsRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void rebuild() {
+        if (jobCheckpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            int rows = userPoseStatsRepository.rebuildFromPoseRecords();
+            jobCheckpointRepository.save(JobCheckpoint.builder()
+                    .jobName(JOB_NAME)
+                    .processed((long) rows)
+                    .updatedAt(System.currentTimeMillis())
+                    .build());
+            log.info("UserPoseStats 초기 집계 완료: {}건", rows);
+        });
+    }
+}
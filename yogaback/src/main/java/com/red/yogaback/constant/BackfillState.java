@@ -0,0 +1,17 @@
+package com.red.yogaback.constant;
+
+/**
+ * 배지 백필 작업 상태
+ */
+public enum BackfillState {
+    IDLE,       // 실행 중인 작업 없음
+    RUNNING,
+    STOPPING,   // 중지 요청됨, 진행 중인 chunk가 끝나길 기다리는 중
+    STOPPED,    // 중지 요청으로 끝남 (resume으로 이어서 처리 가능)
+    COMPLETED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == RUNNING || this == STOPPING;
+    }
+}
@@ -0,0 +1,15 @@
+package com.red.yogaback.constant;
+
+/**
+ * 배지 달성 여부를 판단하는 유저 지표
+ * - BadgeDetail.badgeGoal과 비교되는 값입니다.
+ */
+public enum BadgeMetric {
+    EX_DAYS,          // 총 운동 일수
+    EX_CON_DAYS,      // 연속 운동 일수
+    ROOM_RECORDS,     // 멀티 방 참여 수
+    ROOM_WINS,        // 멀티 방 우승 수
+    COURSES,          // 커스텀 코스 수
+    MAX_ACCURACY,     // 최고 정확도 (%)
+    MAX_POSE_TIME     // 최대 포즈 유지 시간 (초)
+}
@@ -0,0 +1,23 @@
+package com.red.yogaback.constant;
+
+/**
+ * 테이블 기반 id 생성기 설정 (@TableGenerator)
+ * - IDENTITY는 Hibernate INSERT 배치를 막으므로, 대량으로 저장되는 엔티티는 id_generator 테이블에서 블록 단위로 id를 받습니다.
+ * - ALLOCATION_SIZE개씩 미리 받아 두므로 INSERT마다 id 조회가 발생하지 않습니다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "gen_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String POSE_RECORD = "pose_record";
+    public static final String ROOM_COURSE_POSE = "room_course_pose";
+    public static final String USER_COURSE_POSE = "user_course_pose";
+    public static final String USER_BADGE = "user_badge";
+    public static final String ROOM_RECORD = "room_record";
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,11 @@
+package com.red.yogaback.constant;
+
+/**
+ * 기록 사진 업로드 상태
+ */
+public enum ImageStatus {
+    NONE,       // 사진 없음
+    PENDING,    // 업로드 대기/진행 중
+    UPLOADED,   // 업로드 완료 (recordImg 사용 가능)
+    FAILED      // 재시도 후에도 업로드 실패
+}
@@ -0,0 +1,19 @@
+package com.red.yogaback.constant;
+
+import lombok.Getter;
+
+/**
+ * 로비 SSE 델타 이벤트 종류
+ */
+@Getter
+public enum LobbyEventType {
+    ROOM_ADDED("room-added"),                 // 방 생성
+    ROOM_COUNT_CHANGED("room-count-changed"), // 방 인원 변경
+    ROOM_CLOSED("room-closed");               // 방 종료 (roomState 0)
+
+    private final String value;
+
+    LobbyEventType(String value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,73 @@
+package com.red.yogaback.controller;
+
+import com.red.yogaback.constant.ErrorCode;
+import com.red.yogaback.dto.respond.BadgeBackfillRes;
+import com.red.yogaback.error.CustomException;
+import com.red.yogaback.security.SecurityUtil;
+import com.red.yogaback.service.BadgeBackfillService;
+import com.red.yogaback.service.PoseCatalog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "관리자 API", description = "배지 백필, 포즈 카탈로그 갱신 등 운영 작업")
+public class AdminController {
+
+    private final BadgeBackfillService badgeBackfillService;
+    private final PoseCatalog poseCatalog;
+    private final Set<Long> adminUserIds;
+
+    public AdminController(BadgeBackfillService badgeBackfillService,
+                           PoseCatalog poseCatalog,
+                           @Value("${admin.user-ids:}") Set<Long> adminUserIds) {
+        this.badgeBackfillService = badgeBackfillService;
+        this.poseCatalog = poseCatalog;
+        this.adminUserIds = adminUserIds;
+    }
+
+    @PostMapping("/badges/backfill")
+    @Operation(summary = "배지 백필 시작", description = "resume=true면 중단되거나 실패한 실행의 마지막 체크포인트 다음 유저부터 이어서 처리합니다. 완료된 실행 뒤에는 처음부터 처리합니다.")
+    public ResponseEntity<BadgeBackfillRes> startBackfill(@RequestParam(value = "resume", defaultValue = "true") boolean resume) {
+        checkAdmin();
+        return ResponseEntity.ok(badgeBackfillService.start(resume));
+    }
+
+    @GetMapping("/badges/backfill")
+    @Operation(summary = "배지 백필 진행 상황")
+    public ResponseEntity<BadgeBackfillRes> getBackfillStatus() {
+        checkAdmin();
+        return ResponseEntity.ok(badgeBackfillService.status());
+    }
+
+    @PostMapping("/badges/backfill/stop")
+    @Operation(summary = "배지 백필 중지")
+    public ResponseEntity<BadgeBackfillRes> stopBackfill() {
+        checkAdmin();
+        return ResponseEntity.ok(badgeBackfillService.stop());
+    }
+
+    @PostMapping("/poses/reload")
+    @Operation(summary = "포즈 카탈로그 다시 로드", description = "Pose 테이블을 직접 수정한 뒤 호출하면 /api/yoga/all 응답과 ETag가 갱신됩니다.")
+    public ResponseEntity<Map<String, Object>> reloadPoseCatalog() {
+        checkAdmin();
+        PoseCatalog.Snapshot snapshot = poseCatalog.reload();
+        return ResponseEntity.ok(Map.of("poseCount", snapshot.getPoses().size(), "etag", snapshot.getEtag()));
+    }
+
+    private void checkAdmin() {
+        Long userId = SecurityUtil.getCurrentMemberId();
+        if (!adminUserIds.contains(userId)) {
+            log.warn("관리자 API 접근 거부: userId = {}", userId);
+            throw new CustomException(ErrorCode.ACCES_DENIED);
+        }
+    }
+}
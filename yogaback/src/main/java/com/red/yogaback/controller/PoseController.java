@@ -1,6 +1,7 @@
 package com.red.yogaback.controller;
 
 import com.red.yogaback.dto.respond.PoseRes;
+import com.red.yogaback.service.PoseCatalog;
 import com.red.yogaback.service.PoseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,11 +10,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,33 +32,50 @@ public class PoseController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요가 포즈 목록 조회 성공",
                     content = @Content(schema = @Schema(implementation = PoseRes.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
             @ApiResponse(responseCode = "404", description = "요가 포즈를 찾을 수 없음")
     })
     @GetMapping("/all")
-    public ResponseEntity<List<PoseRes>> getAllPoses() {
-        List<PoseRes> poses = poseService.getAllPoses();
+    public ResponseEntity<List<PoseRes>> getAllPoses(WebRequest webRequest) {
+        PoseCatalog.Snapshot catalog = poseService.getCatalog();
+        List<PoseRes> poses = catalog.getPoses();
 
         if (poses.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        // If-None-Match가 같으면 304 (본문 없음)
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
 
-        return ResponseEntity.ok(poses);
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(poses);
     }
 
     @Operation(summary = "특정 요가 포즈 조회", description = "ID에 해당하는 요가 포즈 정보를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요가 포즈 조회 성공",
                     content = @Content(schema = @Schema(implementation = PoseRes.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
             @ApiResponse(responseCode = "404", description = "요가 포즈를 찾을 수 없음")
     })
     @GetMapping("/detail/{poseId}")
-    public ResponseEntity<PoseRes> getPoseById(@PathVariable Long poseId) {
-        try {
-            PoseRes pose = poseService.getPoseById(poseId);
-            return ResponseEntity.ok(pose);
-        } catch (RuntimeException e) {
+    public ResponseEntity<PoseRes> getPoseById(@PathVariable Long poseId, WebRequest webRequest) {
+        PoseCatalog.Snapshot catalog = poseService.getCatalog();
+        PoseRes pose = catalog.getPose(poseId);
+        if (pose == null) {
             return ResponseEntity.notFound().build();
         }
+        String etag = catalog.getPoseEtag(poseId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(pose);
     }
 
 }
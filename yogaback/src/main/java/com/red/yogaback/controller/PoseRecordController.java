@@ -1,5 +1,6 @@
 package com.red.yogaback.controller;
 
+import com.red.yogaback.dto.request.PoseRecordBatchRequest;
 import com.red.yogaback.dto.request.PoseRecordRequest;
 import com.red.yogaback.dto.respond.PoseDetailHistoryRes;
 import com.red.yogaback.dto.respond.PoseHistorySummaryRes;
@@ -24,6 +25,9 @@ public class PoseRecordController {
 
     private final PoseRecordService poseRecordService;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     /**
      * [POST] /api/yoga/history/{poseId}
      * - 요가 포즈 기록 저장
@@ -39,6 +43,20 @@ public class PoseRecordController {
         return ResponseEntity.ok(PoseRecordRes.fromEntity(created));
     }
 
+    /**
+     * [POST] /api/yoga/history/batch
+     * - 코스 한 번의 요가 포즈 기록을 한 번에 저장
+     * - 사진은 recordImgs 파트로 보내고, 각 기록의 imageIndex로 연결
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "요가 포즈 기록 일괄 저장")
+    public ResponseEntity<List<PoseRecordRes>> createPoseRecords(
+            @RequestPart("poseRecordBatchRequest") PoseRecordBatchRequest request,
+            @RequestPart(value = "recordImgs", required = false) List<MultipartFile> recordImgs
+    ) {
+        return ResponseEntity.ok(poseRecordService.createPoseRecords(request, recordImgs));
+    }
+
     /**
      * [GET] /api/yoga/history
      * - 전체 요가 포즈 기록 조회
@@ -55,11 +73,21 @@ public class PoseRecordController {
      * [GET] /api/yoga/history/{poseId}
      * - 특정 요가 포즈 기록 조회
      * - bestAccuracy, bestTime, winCount(랭킹 1인 횟수), histories 배열
+     * - histories는 최신순으로 size개씩, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     * - cursor와 size를 모두 생략하면 기존처럼 전체 기록을 반환 (cursor만 주면 size는 DEFAULT_PAGE_SIZE)
      */
     @GetMapping("/{poseId}")
     @Operation(summary = "특정 요가 포즈 기록 조회")
-    public ResponseEntity<PoseDetailHistoryRes> getPoseDetailHistory(@PathVariable Long poseId) {
-        PoseDetailHistoryRes response = poseRecordService.getPoseDetailHistory(poseId);
+    public ResponseEntity<PoseDetailHistoryRes> getPoseDetailHistory(
+            @PathVariable Long poseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        Integer pageSize = null;
+        if (cursor != null || size != null) {
+            pageSize = Math.min(Math.max(size == null ? DEFAULT_PAGE_SIZE : size, 1), MAX_PAGE_SIZE);
+        }
+        PoseDetailHistoryRes response = poseRecordService.getPoseDetailHistory(poseId, cursor, pageSize);
         return ResponseEntity.ok(response);
     }
 }
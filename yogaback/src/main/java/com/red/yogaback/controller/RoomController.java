@@ -14,8 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/multi")
@@ -26,6 +24,8 @@ public class RoomController {
     private final RoomService roomService;
     private final SseEmitterService sseEmitterService;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @PostMapping("/lobby")
     @Operation(summary = "방 생성")
     public ResponseEntity<RoomRequest> createRooms(@RequestBody RoomRequest roomReq) {
@@ -35,11 +35,17 @@ public class RoomController {
     }
 
     @GetMapping("/lobby")
-    @Operation(summary = "방 조회 / SSE 연결")
+    @Operation(summary = "방 조회 / SSE 연결",
+            description = "page는 기존 클라이언트 호환용이며 사용하지 않습니다. " +
+                    "cursor(이전 페이지의 마지막 roomId)와 size를 보내면 키셋 페이징하고, size를 생략하면 전체 목록을 보냅니다. " +
+                    "재연결 시 Last-Event-ID 헤더를 보내면 그 이후의 델타만 전송합니다.")
     public SseEmitter getAllRooms(@RequestParam("roomName") String roomName,
-                                  @RequestParam("page") String page) {
-        List<RoomRequest> allRooms = roomService.getAllRooms(roomName);
-        return sseEmitterService.subscribe(allRooms);
+                                  @RequestParam(value = "page", required = false) String page,
+                                  @RequestParam(value = "cursor", required = false) Long cursor,
+                                  @RequestParam(value = "size", required = false) Integer size,
+                                  @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Integer pageSize = size == null ? null : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return sseEmitterService.subscribe(roomName, lastEventId, () -> roomService.getAllRooms(roomName, cursor, pageSize));
     }
 
     @PostMapping("lobby/enter")
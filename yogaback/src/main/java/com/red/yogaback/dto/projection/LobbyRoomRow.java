@@ -0,0 +1,20 @@
+package com.red.yogaback.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로비 방 목록 조회용 프로젝션
+ * - Room과 생성자(User) 닉네임을 한 번의 쿼리로 가져옵니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LobbyRoomRow {
+    private Long roomId;
+    private int roomMax;
+    private int roomCount;
+    private String roomName;
+    private Boolean hasPassword;
+    private Long userId;
+    private String userNickname;
+}
@@ -0,0 +1,14 @@
+package com.red.yogaback.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드가 끝나지 않은(PENDING) 기록 사진
+ */
+@Getter
+@AllArgsConstructor
+public class PendingImageRow {
+    private Long poseRecordId;
+    private Long roomId;    // 솔로 기록이면 null
+}
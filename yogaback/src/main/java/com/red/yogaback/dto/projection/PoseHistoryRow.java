@@ -0,0 +1,19 @@
+package com.red.yogaback.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 포즈 상세 기록 페이지 조회용 프로젝션 (응답에 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class PoseHistoryRow {
+    private Long poseRecordId;
+    private Long userId;
+    private Float accuracy;
+    private Integer ranking;
+    private Float poseTime;
+    private String recordImg;
+    private Long createdAt;
+}
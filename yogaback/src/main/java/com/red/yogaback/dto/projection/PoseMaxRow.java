@@ -0,0 +1,14 @@
+package com.red.yogaback.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저의 최고 정확도 / 최대 포즈 유지 시간 (한 번의 집계 쿼리)
+ */
+@Getter
+@AllArgsConstructor
+public class PoseMaxRow {
+    private Float maxAccuracy;
+    private Float maxPoseTime;
+}
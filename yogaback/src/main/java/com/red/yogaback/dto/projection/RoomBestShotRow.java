@@ -0,0 +1,13 @@
+package com.red.yogaback.dto.projection;
+
+/**
+ * 방 코스 자세별 최장 유지 기록 사진 (네이티브 윈도우 함수 조회용 인터페이스 프로젝션)
+ * - 기록이 없는 자세는 사진 컬럼이 null입니다.
+ */
+public interface RoomBestShotRow {
+    Integer getRoomOrderIndex();
+    String getPoseName();
+    String getRecordImg();
+    String getRecordThumbImg();
+    String getRecordMediumImg();
+}
@@ -0,0 +1,15 @@
+package com.red.yogaback.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저 배지 진행 상황 조회용 프로젝션 (연관 엔티티 로딩 없이 필요한 값만)
+ */
+@Getter
+@AllArgsConstructor
+public class UserBadgeRow {
+    private Long badgeId;
+    private int progress;
+    private int highLevel;
+}
@@ -0,0 +1,21 @@
+package com.red.yogaback.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서버가 집계한 멀티 게임 종료 결과 (참가자 1명분)
+ * - RoomRecord(최종 등수/점수)와 라운드별 PoseRecord를 한 번에 저장할 때 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class FinalRoomResult {
+    private Long userId;
+    private Integer totalRanking;
+    private Integer totalScore;
+    private List<PoseRecordBatchRequest.Item> rounds; // 라운드별 기록 (imageIndex는 항상 null)
+}
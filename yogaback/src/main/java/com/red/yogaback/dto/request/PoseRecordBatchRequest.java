@@ -0,0 +1,38 @@
+package com.red.yogaback.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 코스 한 번(세션)의 포즈 기록을 한 번에 저장하는 요청 데이터
+ * - 사진은 recordImgs 파트로 따로 받고, 각 기록의 imageIndex로 몇 번째 사진인지 지정합니다. (없으면 null)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoseRecordBatchRequest {
+
+    // 멀티 모드면 roomId, 솔로 모드면 null
+    private Long roomId;
+    private List<Item> records;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long poseId;
+        private Float accuracy;
+        private Integer ranking;    // 선택사항
+        private Float poseTime;
+        private Integer imageIndex; // recordImgs 내 위치 (선택사항)
+    }
+}
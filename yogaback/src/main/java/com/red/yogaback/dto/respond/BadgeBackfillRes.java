@@ -0,0 +1,26 @@
+package com.red.yogaback.dto.respond;
+
+import com.red.yogaback.constant.BackfillState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배지 백필 진행 상황
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BadgeBackfillRes {
+    private BackfillState state;
+    private Long lastUserId;        // 체크포인트 (이 id까지 처리 완료)
+    private long processedUsers;    // 이번 실행에서 처리한 유저 수
+    private long totalUsers;        // 이번 실행의 대상 유저 수
+    private long insertedBadges;
+    private long updatedBadges;
+    private long elapsedMillis;
+    private double usersPerSecond;
+    private String error;
+}
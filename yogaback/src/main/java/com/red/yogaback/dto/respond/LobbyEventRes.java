@@ -0,0 +1,26 @@
+package com.red.yogaback.dto.respond;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.red.yogaback.dto.request.RoomRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로비 SSE 델타 이벤트 응답 DTO
+ * - version은 SSE 이벤트 id와 동일하며, 재연결 시 Last-Event-ID로 사용됩니다.
+ * - room은 ROOM_ADDED, roomCount는 ROOM_COUNT_CHANGED에서만 채워집니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LobbyEventRes {
+    private String type;
+    private long version;
+    private Long roomId;
+    private RoomRequest room;
+    private Integer roomCount;
+}
@@ -22,6 +22,7 @@ public class PoseDetailHistoryRes {
     private Float bestTime;
     private int winCount;  // ranking == 1인 기록 수 (없으면 0)
     private List<HistoryItem> histories;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
 
     @Getter
     @Builder
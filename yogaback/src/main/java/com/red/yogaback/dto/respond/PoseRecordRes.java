@@ -1,5 +1,6 @@
 package com.red.yogaback.dto.respond;
 
+import com.red.yogaback.constant.ImageStatus;
 import com.red.yogaback.model.PoseRecord;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,10 @@ public class PoseRecordRes {
     private Float accuracy;
     private Integer ranking;    // null 가능
     private Float poseTime;
-    private String recordImg;
+    private String recordImg;   // imageStatus가 UPLOADED가 된 뒤 채워짐
+    private String recordThumbImg;
+    private String recordMediumImg;
+    private ImageStatus imageStatus;
     private Long createdAt;
 
     public static PoseRecordRes fromEntity(PoseRecord entity) {
@@ -32,6 +36,9 @@ public class PoseRecordRes {
                 .ranking(entity.getRanking())
                 .poseTime(entity.getPoseTime())
                 .recordImg(entity.getRecordImg())
+                .recordThumbImg(entity.getRecordThumbImg())
+                .recordMediumImg(entity.getRecordMediumImg())
+                .imageStatus(entity.getImageStatus())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
@@ -7,6 +7,8 @@ import lombok.Getter;
 @Builder
 public class RoomCoursePoseMaxImageDTO {
     private String poseName;
-    private String poseUrl;
+    private String poseUrl;        // 원본
+    private String poseThumbUrl;   // 썸네일 (변형본이 없으면 원본)
+    private String poseMediumUrl;  // 중간 크기 (변형본이 없으면 원본)
     private int roomOrderIndex;
 }
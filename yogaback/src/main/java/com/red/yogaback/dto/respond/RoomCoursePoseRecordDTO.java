@@ -7,7 +7,9 @@ import lombok.Getter;
 @Builder
 public class RoomCoursePoseRecordDTO {
     private String userName;
-    private String poseUrl;
+    private String poseUrl;        // 원본
+    private String poseThumbUrl;   // 썸네일 (변형본이 없으면 원본)
+    private String poseMediumUrl;  // 중간 크기 (변형본이 없으면 원본)
     private Float poseTime;
     private Float accuracy;
     private Integer ranking;
@@ -0,0 +1,14 @@
+package com.red.yogaback.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저 커스텀 코스가 생성됨
+ */
+@Getter
+@AllArgsConstructor
+public class CourseCreated {
+    private final Long userId;
+    private final Long userCourseId;
+}
@@ -0,0 +1,17 @@
+package com.red.yogaback.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 세션의 요가 포즈 기록이 한 번에 저장됨 (배치 중 최고값만 전달, roomId가 null이면 솔로 기록)
+ */
+@Getter
+@AllArgsConstructor
+public class PoseBatchRecorded {
+    private final Long userId;
+    private final Long roomId;
+    private final int recordCount;
+    private final Float maxAccuracy;
+    private final Float maxPoseTime;
+}
@@ -0,0 +1,18 @@
+package com.red.yogaback.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요가 포즈 기록이 저장됨 (roomId가 null이면 솔로 기록)
+ */
+@Getter
+@AllArgsConstructor
+public class PoseRecorded {
+    private final Long userId;
+    private final Long poseRecordId;
+    private final Long poseId;
+    private final Long roomId;
+    private final Float accuracy;
+    private final Float poseTime;
+}
@@ -0,0 +1,19 @@
+package com.red.yogaback.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 기록 사진이 임시 파일로 저장됨 (커밋 후 S3 업로드 대상)
+ */
+@Getter
+@AllArgsConstructor
+public class RecordImageUploadRequested {
+    private final Long poseRecordId;
+    private final Long roomId;       // 솔로 기록이면 null
+    private final Path file;
+    private final String objectKey;
+    private final String contentType;
+}
@@ -0,0 +1,19 @@
+package com.red.yogaback.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저의 멀티 방 최종 기록(RoomRecord)이 저장됨
+ */
+@Getter
+@AllArgsConstructor
+public class RoomFinished {
+    private final Long userId;
+    private final Long roomId;
+    private final Integer totalRanking;
+
+    public boolean isWin() {
+        return totalRanking != null && totalRanking == 1;
+    }
+}
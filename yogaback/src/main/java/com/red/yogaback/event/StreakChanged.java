@@ -0,0 +1,15 @@
+package com.red.yogaback.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저의 총 운동 일수 / 연속 운동 일수가 변경됨 (변경 후 값)
+ */
+@Getter
+@AllArgsConstructor
+public class StreakChanged {
+    private final Long userId;
+    private final long exDays;
+    private final long exConDays;
+}
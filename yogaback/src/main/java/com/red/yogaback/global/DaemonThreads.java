@@ -0,0 +1,70 @@
+package com.red.yogaback.global;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 컴포넌트 내부 백그라운드 작업용 데몬 스레드 실행기 모음
+public final class DaemonThreads {
+
+    private DaemonThreads() {
+    }
+
+    public static ExecutorService single(String name) {
+        return Executors.newSingleThreadExecutor(named(name));
+    }
+
+    public static ScheduledExecutorService scheduled(String name) {
+        return Executors.newSingleThreadScheduledExecutor(named(name));
+    }
+
+    // 스레드 이름은 prefix-1, prefix-2 ...
+    public static ThreadPoolExecutor pool(String prefix, int threads, BlockingQueue<Runnable> queue,
+                                          RejectedExecutionHandler rejectedHandler) {
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, queue, numbered(prefix), rejectedHandler);
+    }
+
+    public static ThreadPoolExecutor pool(String prefix, int threads, BlockingQueue<Runnable> queue) {
+        return pool(prefix, threads, queue, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 새 작업을 막고 진행 중인 작업이 끝나기를 최대 timeoutMillis 동안 기다립니다.
+     * @return 시간 안에 모두 끝났으면 true
+     */
+    public static boolean shutdown(ExecutorService executor, long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        return false;
+    }
+
+    private static ThreadFactory named(String name) {
+        return r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ThreadFactory numbered(String prefix) {
+        AtomicInteger threadSeq = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + "-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.red.yogaback.global;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 접근 순서 기준 LRU 맵 (동기화하지 않으므로 호출자가 락을 잡고 사용)
+public class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private final int maxSize;
+
+    public LruMap(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
@@ -0,0 +1,24 @@
+package com.red.yogaback.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 재개 가능한 배치 작업의 진행 위치 (키셋 기준 마지막으로 처리한 id)
+ */
+@Entity
+@Table(name = "JobCheckpoint")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint {
+
+    @Id
+    private String jobName;     // job_name
+
+    private Long lastId;        // last_id
+    private Long processed;     // processed
+    private Long updatedAt;     // updated_at
+}
@@ -1,11 +1,17 @@
 package com.red.yogaback.model;
 
+import com.red.yogaback.constant.IdGenerators;
+import com.red.yogaback.constant.ImageStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.*;
 
 @Entity
-@Table(name = "PoseRecord")
+@Table(name = "PoseRecord", indexes = {
+        @Index(name = "idx_pose_record_user_pose_created", columnList = "user_id, pose_id, created_at, pose_record_id"),
+        @Index(name = "idx_pose_record_room_pose_time", columnList = "room_id, pose_id, pose_time"),
+        @Index(name = "idx_pose_record_image_status", columnList = "image_status, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA용 기본 생성자 (protected)
@@ -14,7 +20,10 @@ import lombok.*;
 public class PoseRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.POSE_RECORD)
+    @TableGenerator(name = IdGenerators.POSE_RECORD, table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.POSE_RECORD, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long poseRecordId; // pose_record_id
 
     // 자세 기록은 특정 User에 속함
@@ -36,5 +45,13 @@ public class PoseRecord {
     private Float accuracy;  // accuracy
     private Integer ranking; // ranking (Nullable allowed for solo records)
     private Float poseTime;  // pose_time (예약어 회피를 위해 "poseTime"으로 사용)
-    private String recordImg; // record_img
+    private String recordImg; // record_img (원본)
+    private String recordThumbImg;  // record_thumb_img (썸네일 JPEG)
+    private String recordMediumImg; // record_medium_img (중간 크기 JPEG)
+    private Integer imageWidth;     // 원본 가로(px)
+    private Integer imageHeight;    // 원본 세로(px)
+    private Long imageBytes;        // 원본 크기(byte)
+
+    @Enumerated(EnumType.STRING)
+    private ImageStatus imageStatus; // image_status (사진 비동기 업로드 상태)
 }
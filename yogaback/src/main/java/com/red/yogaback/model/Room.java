@@ -6,7 +6,9 @@ import lombok.*;
 import java.util.List;
 
 @Entity
-@Table(name = "Room")
+@Table(name = "Room", indexes = {
+        @Index(name = "idx_room_state_room_id", columnList = "room_state, room_id")
+})
 @Getter
 @Setter
 @Builder
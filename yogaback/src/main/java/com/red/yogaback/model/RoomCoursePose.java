@@ -1,5 +1,6 @@
 package com.red.yogaback.model;
 
+import com.red.yogaback.constant.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,10 @@ import lombok.*;
 public class RoomCoursePose {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.ROOM_COURSE_POSE)
+    @TableGenerator(name = IdGenerators.ROOM_COURSE_POSE, table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.ROOM_COURSE_POSE, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long roomCoursePoseId; // course_pose_id
 
     // 해당 코스 포즈는 하나의 Pose와 연관됨
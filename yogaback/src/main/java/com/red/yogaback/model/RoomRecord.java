@@ -1,10 +1,13 @@
 package com.red.yogaback.model;
 
+import com.red.yogaback.constant.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "RoomRecord")
+@Table(name = "RoomRecord", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_room_record_user_room", columnNames = {"user_id", "room_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -13,7 +16,10 @@ import lombok.*;
 public class RoomRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.ROOM_RECORD)
+    @TableGenerator(name = IdGenerators.ROOM_RECORD, table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.ROOM_RECORD, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long roomRecordId; // room_record_id
 
     // 방 기록은 특정 사용자에 속함
@@ -0,0 +1,25 @@
+package com.red.yogaback.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 스케줄러 분산 락 (여러 인스턴스 중 하나만 작업을 실행하도록)
+ * - lockedUntil이 지난 락은 다른 인스턴스가 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "SchedulerLock")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    private String lockName;    // lock_name
+
+    private Long lockedUntil;   // locked_until (millis)
+    private Long lockedAt;      // locked_at (millis)
+    private String lockedBy;    // locked_by (인스턴스 식별자)
+}
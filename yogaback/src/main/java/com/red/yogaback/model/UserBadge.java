@@ -1,10 +1,13 @@
 package com.red.yogaback.model;
 
+import com.red.yogaback.constant.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "UserBadge")
+@Table(name = "UserBadge", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_badge_user_badge", columnNames = {"user_id", "badge_id"})
+})
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -13,7 +16,10 @@ import lombok.*;
 public class UserBadge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.USER_BADGE)
+    @TableGenerator(name = IdGenerators.USER_BADGE, table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.USER_BADGE, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long userBadgeId; // user_badge_id
 
     // 해당 뱃지 내역은 반드시 하나의 User에 속함
@@ -0,0 +1,35 @@
+package com.red.yogaback.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 유저별, 포즈별 최고 기록 집계 (PoseRecord 저장 시 같은 트랜잭션에서 갱신)
+ */
+@Entity
+@Table(name = "UserPoseStats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_pose_stats_user_pose", columnNames = {"user_id", "pose_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserPoseStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long userPoseStatsId;   // user_pose_stats_id
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "pose_id", nullable = false)
+    private Long poseId;
+
+    private Float bestAccuracy;     // best_accuracy
+    private Float bestTime;         // best_time
+    private int winCount;           // win_count (ranking == 1)
+    private int attemptCount;       // attempt_count
+    private Long lastPlayedAt;      // last_played_at
+}
@@ -2,10 +2,25 @@ package com.red.yogaback.repository;
 
 import com.red.yogaback.model.Badge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BadgeRepository extends JpaRepository<Badge, Long> {
 
+    // 배지 카탈로그 로드용: 배지와 상세를 한 번에 조회
+    @Query("SELECT DISTINCT b FROM Badge b LEFT JOIN FETCH b.badgeDetails")
+    List<Badge> findAllWithDetails();
 
+    // 배지 카탈로그 변경 감지용 지문 (행 수 + 내용 체크섬)
+    @Query(value = "SELECT CONCAT(" +
+            "(SELECT COUNT(*) FROM badge), ':', " +
+            "(SELECT COALESCE(SUM(CRC32(CONCAT_WS('|', badge_id, badge_name, badge_max_lv))), 0) FROM badge), ':', " +
+            "(SELECT COUNT(*) FROM badge_detail), ':', " +
+            "(SELECT COALESCE(SUM(CRC32(CONCAT_WS('|', badge_detail_id, badge_id, badge_level, badge_goal, " +
+            "badge_detail_name, badge_detail_img, badge_description))), 0) FROM badge_detail))",
+            nativeQuery = true)
+    String findCatalogFingerprint();
 }
@@ -0,0 +1,9 @@
+package com.red.yogaback.repository;
+
+import com.red.yogaback.model.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
@@ -1,11 +1,18 @@
 package com.red.yogaback.repository;
 
+import com.red.yogaback.constant.ImageStatus;
+import com.red.yogaback.dto.projection.PendingImageRow;
+import com.red.yogaback.dto.projection.PoseHistoryRow;
+import com.red.yogaback.dto.projection.PoseMaxRow;
 import com.red.yogaback.model.PoseRecord;
 import com.red.yogaback.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,8 +29,66 @@ public interface PoseRecordRepository extends JpaRepository<PoseRecord, Long> {
     @Query("SELECT MAX(p.poseTime) FROM PoseRecord p WHERE p.user = :user")
     Optional<Integer> findMaxPoseTimeByUser(@Param("user") User user);
 
-    // 수정: 특정 포즈의 기록을 createdAt 내림차순으로 가져오는 메서드
-    List<PoseRecord> findByUserAndPose_PoseIdOrderByCreatedAtDesc(User user, Long poseId);
+    // 배지 집계용: 유저의 최고 정확도와 최대 포즈 유지 시간을 한 번에 조회
+    @Query("SELECT new com.red.yogaback.dto.projection.PoseMaxRow(MAX(p.accuracy), MAX(p.poseTime)) " +
+            "FROM PoseRecord p WHERE p.user.userId = :userId")
+    PoseMaxRow findMaxesByUserId(@Param("userId") Long userId);
+
+    // 포즈 상세 기록 페이지 (커서: createdAt, poseRecordId 내림차순)
+    @Query("SELECT new com.red.yogaback.dto.projection.PoseHistoryRow(" +
+            "pr.poseRecordId, pr.user.userId, pr.accuracy, pr.ranking, pr.poseTime, pr.recordImg, pr.createdAt) " +
+            "FROM PoseRecord pr " +
+            "WHERE pr.user.userId = :userId AND pr.pose.poseId = :poseId " +
+            "AND (pr.createdAt < :cursorCreatedAt OR (pr.createdAt = :cursorCreatedAt AND pr.poseRecordId < :cursorId)) " +
+            "ORDER BY pr.createdAt DESC, pr.poseRecordId DESC")
+    List<PoseHistoryRow> findHistoryPage(@Param("userId") Long userId,
+                                         @Param("poseId") Long poseId,
+                                         @Param("cursorCreatedAt") Long cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    // 비동기 업로드 결과 반영 (원본 + 변형본 + 메타데이터)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PoseRecord pr SET pr.recordImg = :recordImg, pr.recordThumbImg = :thumbImg, " +
+            "pr.recordMediumImg = :mediumImg, pr.imageWidth = :width, pr.imageHeight = :height, " +
+            "pr.imageBytes = :bytes, pr.imageStatus = :imageStatus " +
+            "WHERE pr.poseRecordId = :poseRecordId")
+    int updateRecordImages(@Param("poseRecordId") Long poseRecordId,
+                           @Param("recordImg") String recordImg,
+                           @Param("thumbImg") String thumbImg,
+                           @Param("mediumImg") String mediumImg,
+                           @Param("width") Integer width,
+                           @Param("height") Integer height,
+                           @Param("bytes") Long bytes,
+                           @Param("imageStatus") ImageStatus imageStatus);
+
+    // 업로드 상태만 반영 (최종 실패 등)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PoseRecord pr SET pr.recordImg = :recordImg, pr.imageStatus = :imageStatus " +
+            "WHERE pr.poseRecordId = :poseRecordId")
+    int updateRecordImage(@Param("poseRecordId") Long poseRecordId,
+                          @Param("recordImg") String recordImg,
+                          @Param("imageStatus") ImageStatus imageStatus);
+
+    // 상태가 from일 때만 to로 변경 (다른 경로에서 이미 반영된 결과를 덮어쓰지 않도록)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PoseRecord pr SET pr.imageStatus = :to " +
+            "WHERE pr.poseRecordId = :poseRecordId AND pr.imageStatus = :from")
+    int updateImageStatus(@Param("poseRecordId") Long poseRecordId,
+                          @Param("from") ImageStatus from,
+                          @Param("to") ImageStatus to);
+
+    // before 이전에 만들어졌는데 아직 업로드가 끝나지 않은 기록 (재시작 등으로 업로드가 끊긴 경우)
+    @Query("SELECT new com.red.yogaback.dto.projection.PendingImageRow(pr.poseRecordId, r.roomId) " +
+            "FROM PoseRecord pr LEFT JOIN pr.room r " +
+            "WHERE pr.imageStatus = :status AND pr.createdAt < :before " +
+            "ORDER BY pr.createdAt")
+    List<PendingImageRow> findStaleImages(@Param("status") ImageStatus status,
+                                          @Param("before") Long before,
+                                          Pageable pageable);
 
     // 변경: 기존 roomRecord를 통한 조회 대신 Room의 roomId로 조회 (poseTime 내림차순)
     @Query("SELECT pr FROM PoseRecord pr " +
@@ -1,11 +1,31 @@
 package com.red.yogaback.repository;
 
+import com.red.yogaback.dto.respond.PoseRes;
 import com.red.yogaback.model.Pose;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Repository
 public interface PoseRepository extends JpaRepository<Pose, Long> {
     // 기본 CRUD 메서드는 JpaRepository에서 제공됨
     // 필요한 경우 추가 쿼리 메서드를 여기에 정의할 수 있음
+
+    // 여러 포즈를 한 번의 IN 쿼리로 조회 (poseId -> Pose, 없는 id는 빠짐)
+    default Map<Long, Pose> findMapByIds(Collection<Long> poseIds) {
+        return findAllById(poseIds).stream()
+                .collect(Collectors.toMap(Pose::getPoseId, Function.identity()));
+    }
+
+    // 포즈 카탈로그용: 상위 자세는 id만 필요하므로 setPose 엔티티를 로딩하지 않음
+    @Query("SELECT new com.red.yogaback.dto.respond.PoseRes(p.poseId, p.poseName, p.poseDescription, p.poseImg, " +
+            "p.poseLevel, p.poseVideo, sp.poseId, p.poseAnimation) " +
+            "FROM Pose p LEFT JOIN p.setPose sp ORDER BY p.poseId")
+    List<PoseRes> findAllForCatalog();
 }
@@ -1,12 +1,41 @@
 package com.red.yogaback.repository;
 
+import com.red.yogaback.dto.projection.RoomBestShotRow;
 import com.red.yogaback.model.RoomCoursePose;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RoomCoursePoseRepository extends JpaRepository<RoomCoursePose, Long> {
     // roomId 기준으로 해당 RoomCoursePose들을 조회
     List<RoomCoursePose> findByRoom_RoomId(Long roomId);
+
+    // 여러 방의 코스를 Pose와 함께 한 번에 조회 (방 코스 캐시 미스 로드용)
+    @Query("SELECT rcp FROM RoomCoursePose rcp JOIN FETCH rcp.pose " +
+            "WHERE rcp.room.roomId IN :roomIds ORDER BY rcp.room.roomId, rcp.roomOrderIndex")
+    List<RoomCoursePose> findWithPoseByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * 방 코스의 자세별 poseTime 최장 기록 사진을 순서대로 한 번에 조회
+     * - pose_record(room_id, pose_id, pose_time) 인덱스로 방 기록만 읽고, ROW_NUMBER()로 자세별 1건만 남깁니다.
+     * - 동률이면 먼저 저장된 기록(작은 pose_record_id)이 선택됩니다.
+     */
+    @Query(value = "SELECT rcp.room_order_index AS roomOrderIndex, p.pose_name AS poseName, " +
+            "best.record_img AS recordImg, best.record_thumb_img AS recordThumbImg, " +
+            "best.record_medium_img AS recordMediumImg " +
+            "FROM room_course_pose rcp " +
+            "JOIN pose p ON p.pose_id = rcp.pose_id " +
+            "LEFT JOIN (" +
+            "  SELECT pr.pose_id, pr.record_img, pr.record_thumb_img, pr.record_medium_img, " +
+            "  ROW_NUMBER() OVER (PARTITION BY pr.pose_id ORDER BY pr.pose_time DESC, pr.pose_record_id) AS rn " +
+            "  FROM pose_record pr WHERE pr.room_id = :roomId" +
+            ") best ON best.pose_id = rcp.pose_id AND best.rn = 1 " +
+            "WHERE rcp.room_id = :roomId " +
+            "ORDER BY rcp.room_order_index",
+            nativeQuery = true)
+    List<RoomBestShotRow> findBestShotsByRoomId(@Param("roomId") Long roomId);
 }
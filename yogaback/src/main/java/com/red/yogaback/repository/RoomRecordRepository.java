@@ -2,14 +2,31 @@ package com.red.yogaback.repository;
 
 import com.red.yogaback.model.RoomRecord;
 import com.red.yogaback.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RoomRecordRepository extends JpaRepository<RoomRecord,Long> {
     List<RoomRecord> findByUser(User user);
 
     int countByUser(User user);
+
+    int countByUser_UserId(Long userId);
+
+    // INSERT IGNORE로 건너뛴 기록 조회: 스냅숏 이후 다른 트랜잭션이 커밋한 행도 보이도록 잠금 읽기
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT rr FROM RoomRecord rr WHERE rr.user.userId = :userId AND rr.room.roomId = :roomId")
+    Optional<RoomRecord> findLockedByUserIdAndRoomId(@Param("userId") Long userId, @Param("roomId") Long roomId);
+
+    // INSERT IGNORE 후 실제로 들어간 행 (무시된 행의 id는 테이블에 없음)
+    @Query("SELECT rr.user.userId FROM RoomRecord rr WHERE rr.roomRecordId IN :ids")
+    List<Long> findUserIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
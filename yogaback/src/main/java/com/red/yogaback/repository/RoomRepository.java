@@ -1,8 +1,12 @@
 package com.red.yogaback.repository;
 
+import com.red.yogaback.dto.projection.LobbyRoomRow;
 import com.red.yogaback.model.Room;
 import com.red.yogaback.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +19,14 @@ public interface RoomRepository extends JpaRepository<Room,Long> {
     List<Room> findByRoomNameContaining(String name);
 
     Room findByUsersContaining(User user);
+
+    // 로비 방 목록 (키셋 페이징): cursor보다 작은 roomId부터 최신순으로 조회
+    @Query("SELECT new com.red.yogaback.dto.projection.LobbyRoomRow(" +
+            "r.roomId, r.roomMax, r.roomCount, r.roomName, r.hasPassword, u.userId, u.userNickname) " +
+            "FROM Room r JOIN User u ON u.userId = r.creatorId " +
+            "WHERE r.roomState = 1 AND r.roomName LIKE CONCAT('%', :roomName, '%') AND r.roomId < :cursor " +
+            "ORDER BY r.roomId DESC")
+    List<LobbyRoomRow> findLobbyRooms(@Param("roomName") String roomName,
+                                      @Param("cursor") Long cursor,
+                                      Pageable pageable);
 }
@@ -0,0 +1,26 @@
+package com.red.yogaback.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티의 테이블 기반 id 생성기(@TableGenerator)에서 id를 직접 받습니다.
+ * INSERT IGNORE / ON DUPLICATE KEY UPDATE처럼 JPA로 표현할 수 없는 INSERT를 JDBC로 실행할 때 트랜잭션 안에서 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TableIdAllocator {
+
+    private final EntityManager entityManager;
+
+    public Long next(Class<?> entityType) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityType).getGenerator();
+        // 테이블 기반 생성기는 엔티티 인스턴스를 보지 않음
+        return (Long) generator.generate(session, null);
+    }
+}
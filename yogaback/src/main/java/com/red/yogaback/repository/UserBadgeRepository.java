@@ -1,5 +1,6 @@
 package com.red.yogaback.repository;
 
+import com.red.yogaback.dto.projection.UserBadgeRow;
 import com.red.yogaback.model.Badge;
 import com.red.yogaback.model.User;
 import com.red.yogaback.model.UserBadge;
@@ -21,5 +22,10 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
             "WHERE ub.user = :user AND ub.isNew = true")
     List<UserBadge> findNewBadgesWithDetails(@Param("user") User user);
 
+    // 배지 목록 화면용: 유저의 배지 진행 상황만 조회
+    @Query("SELECT new com.red.yogaback.dto.projection.UserBadgeRow(ub.badge.badgeId, ub.progress, ub.highLevel) " +
+            "FROM UserBadge ub WHERE ub.user.userId = :userId")
+    List<UserBadgeRow> findBadgeRowsByUserId(@Param("userId") Long userId);
+
 
 }
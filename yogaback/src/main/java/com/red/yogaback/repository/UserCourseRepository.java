@@ -14,4 +14,6 @@ public interface UserCourseRepository extends JpaRepository<UserCourse, Long> {
     List<UserCourse> findByUser(User user);
 
     int countByUser(User user);
+
+    int countByUser_UserId(Long userId);
 }
@@ -0,0 +1,35 @@
+package com.red.yogaback.repository;
+
+import com.red.yogaback.model.UserPoseStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserPoseStatsRepository extends JpaRepository<UserPoseStats, Long> {
+
+    List<UserPoseStats> findByUserId(Long userId);
+
+    Optional<UserPoseStats> findByUserIdAndPoseId(Long userId, Long poseId);
+
+    // 기존 PoseRecord 전체로 집계 테이블 재구성 (도입 시 한 번)
+    // 이미 있는 행은 큰 값으로 맞추므로 여러 번, 여러 인스턴스에서 실행해도 결과가 같음
+    @Modifying
+    @Query(value = "INSERT INTO user_pose_stats " +
+            "(user_id, pose_id, best_accuracy, best_time, win_count, attempt_count, last_played_at) " +
+            "SELECT user_id, pose_id, MAX(accuracy), MAX(pose_time), " +
+            "SUM(CASE WHEN ranking = 1 THEN 1 ELSE 0 END), COUNT(*), MAX(created_at) " +
+            "FROM pose_record GROUP BY user_id, pose_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "best_accuracy = GREATEST(COALESCE(best_accuracy, 0), COALESCE(VALUES(best_accuracy), 0)), " +
+            "best_time = GREATEST(COALESCE(best_time, 0), COALESCE(VALUES(best_time), 0)), " +
+            "win_count = GREATEST(win_count, VALUES(win_count)), " +
+            "attempt_count = GREATEST(attempt_count, VALUES(attempt_count)), " +
+            "last_played_at = GREATEST(COALESCE(last_played_at, 0), VALUES(last_played_at))",
+            nativeQuery = true)
+    int rebuildFromPoseRecords();
+}
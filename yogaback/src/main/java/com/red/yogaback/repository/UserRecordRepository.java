@@ -4,11 +4,48 @@ package com.red.yogaback.repository;
 import com.red.yogaback.model.User;
 import com.red.yogaback.model.UserRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRecordRepository extends JpaRepository<UserRecord,Long> {
     Optional<UserRecord> findByUser(User user);
+
+    Optional<UserRecord> findByUser_UserId(Long userId);
+
+    List<UserRecord> findByUser_UserIdIn(Collection<Long> userIds);
+
+    // 멀티 방 우승자들의 roomWin을 한 번에 증가
+    @Modifying
+    @Query("UPDATE UserRecord ur SET ur.roomWin = COALESCE(ur.roomWin, 0) + 1 WHERE ur.user.userId IN :userIds")
+    int incrementRoomWin(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT COALESCE(MAX(ur.userRecordId), 0) FROM UserRecord ur")
+    Long findMaxUserRecordId();
+
+    /**
+     * (fromId, toId] 범위에서 연속 운동이 끊긴 기록만 exConDays를 0으로 초기화합니다.
+     * 유지 조건:
+     *  1. currentExerciseDate가 오늘, previousExerciseDate가 어제 또는 null
+     *  2. currentExerciseDate가 어제, previousExerciseDate가 null 또는 어제보다 과거
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserRecord ur SET ur.exConDays = 0 " +
+            "WHERE ur.userRecordId > :fromId AND ur.userRecordId <= :toId " +
+            "AND ur.currentExerciseDate IS NOT NULL AND (ur.exConDays IS NULL OR ur.exConDays <> 0) " +
+            "AND NOT ((ur.currentExerciseDate = :today AND (ur.previousExerciseDate IS NULL OR ur.previousExerciseDate = :yesterday)) " +
+            "OR (ur.currentExerciseDate = :yesterday AND (ur.previousExerciseDate IS NULL OR ur.previousExerciseDate < :yesterday)))")
+    int resetBrokenStreaks(@Param("fromId") Long fromId,
+                           @Param("toId") Long toId,
+                           @Param("today") LocalDate today,
+                           @Param("yesterday") LocalDate yesterday);
 }
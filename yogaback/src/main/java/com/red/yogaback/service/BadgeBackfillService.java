@@ -0,0 +1,324 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.BackfillState;
+import com.red.yogaback.constant.BadgeMetric;
+import com.red.yogaback.constant.BadgeType;
+import com.red.yogaback.dto.respond.BadgeBackfillRes;
+import com.red.yogaback.global.DaemonThreads;
+import com.red.yogaback.model.JobCheckpoint;
+import com.red.yogaback.repository.JobCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 전체 유저 배지 재평가(백필): user_id 키셋 chunk 단위로 병렬 처리하고, 끝난 지점까지 체크포인트를 남겨 이어서 처리
+@Slf4j
+@Service
+public class BadgeBackfillService {
+
+    private static final String JOB_NAME = "badge-backfill";
+
+    private static final String SELECT_USER_IDS =
+            "SELECT user_id FROM `user` WHERE user_id > ? ORDER BY user_id LIMIT ?";
+    private static final String COUNT_USERS = "SELECT COUNT(*) FROM `user` WHERE user_id > ?";
+    private static final String POSE_AGGREGATE =
+            "SELECT user_id, MAX(accuracy) AS max_accuracy, MAX(pose_time) AS max_pose_time FROM pose_record " +
+            "WHERE user_id BETWEEN ? AND ? GROUP BY user_id";
+    private static final String COURSE_AGGREGATE =
+            "SELECT user_id, COUNT(*) AS cnt FROM user_course WHERE user_id BETWEEN ? AND ? GROUP BY user_id";
+    private static final String ROOM_RECORD_AGGREGATE =
+            "SELECT user_id, COUNT(*) AS cnt FROM room_record WHERE user_id BETWEEN ? AND ? GROUP BY user_id";
+    private static final String USER_RECORDS =
+            "SELECT user_id, ex_days, ex_con_days, room_win FROM user_record WHERE user_id BETWEEN ? AND ?";
+    private static final String USER_BADGES =
+            "SELECT user_id, badge_id, high_level FROM user_badge WHERE user_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final UserBadgeWriter userBadgeWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final BadgeCatalog badgeCatalog;
+    private final BadgeEngine badgeEngine;
+    private final int threads;
+    private final int chunkSize;
+
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+
+    // 현재(또는 마지막) 실행 상태
+    private volatile Run run;
+
+    public BadgeBackfillService(JdbcTemplate jdbcTemplate,
+                                JobCheckpointRepository jobCheckpointRepository,
+                                UserBadgeWriter userBadgeWriter,
+                                TransactionTemplate transactionTemplate,
+                                BadgeCatalog badgeCatalog,
+                                BadgeEngine badgeEngine,
+                                @Value("${badge.backfill.threads:4}") int threads,
+                                @Value("${badge.backfill.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.userBadgeWriter = userBadgeWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.badgeCatalog = badgeCatalog;
+        this.badgeEngine = badgeEngine;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.coordinator = DaemonThreads.single("badge-backfill");
+        this.workers = DaemonThreads.pool("badge-backfill-worker", threads, new LinkedBlockingQueue<>());
+    }
+
+    /**
+     * 백필 시작
+     * @param resume true면 중단/실패한 실행의 체크포인트 다음 유저부터, false면 처음부터 (완료된 실행은 체크포인트가 없어 처음부터)
+     */
+    public synchronized BadgeBackfillRes start(boolean resume) {
+        if (run != null && run.isActive()) {
+            return run.toRes();
+        }
+        long fromUserId = 0L;
+        if (resume) {
+            fromUserId = jobCheckpointRepository.findById(JOB_NAME)
+                    .map(JobCheckpoint::getLastId)
+                    .orElse(0L);
+        }
+        // 목표값이 방금 바뀌었을 수 있으므로 최신 카탈로그로 평가
+        badgeCatalog.reload();
+        Long total = jdbcTemplate.queryForObject(COUNT_USERS, Long.class, fromUserId);
+        Run newRun = new Run(fromUserId, total == null ? 0 : total);
+        run = newRun;
+        coordinator.execute(() -> execute(newRun));
+        log.info("배지 백필 시작: fromUserId = {}, 대상 유저 = {}", fromUserId, newRun.totalUsers);
+        return newRun.toRes();
+    }
+
+    // 현재 chunk까지 처리하고 멈춤 (체크포인트는 유지되어 resume 가능)
+    public synchronized BadgeBackfillRes stop() {
+        if (run != null && run.isActive()) {
+            run.state = BackfillState.STOPPING;
+        }
+        return status();
+    }
+
+    public BadgeBackfillRes status() {
+        Run current = run;
+        if (current == null) {
+            Long lastId = jobCheckpointRepository.findById(JOB_NAME).map(JobCheckpoint::getLastId).orElse(null);
+            return BadgeBackfillRes.builder().state(BackfillState.IDLE).lastUserId(lastId).build();
+        }
+        return current.toRes();
+    }
+
+    private void execute(Run current) {
+        // 완료 순서와 관계없이 체크포인트는 앞에서부터 연속으로 끝난 chunk까지만 전진
+        Deque<Chunk> inFlight = new ArrayDeque<>();
+        long cursor = current.fromUserId;
+        try {
+            while (current.state != BackfillState.STOPPING) {
+                List<Long> userIds = jdbcTemplate.queryForList(SELECT_USER_IDS, Long.class, cursor, chunkSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                cursor = userIds.get(userIds.size() - 1);
+                inFlight.addLast(new Chunk(cursor, userIds.size(), workers.submit(() -> processChunk(userIds, current))));
+                while (inFlight.size() >= threads) {
+                    completeHead(inFlight, current);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                completeHead(inFlight, current);
+            }
+            if (current.state == BackfillState.STOPPING) {
+                current.state = BackfillState.STOPPED;
+            } else {
+                // 끝까지 처리했으면 체크포인트를 지워 다음 실행(목표값 변경 후 등)은 resume이어도 처음부터 처리
+                jobCheckpointRepository.deleteById(JOB_NAME);
+                current.state = BackfillState.COMPLETED;
+            }
+            log.info("배지 백필 종료: state = {}, 처리 유저 = {}, 신규 = {}, 레벨업 = {}, {}ms",
+                    current.state, current.processedUsers.get(), current.insertedBadges.get(),
+                    current.updatedBadges.get(), current.elapsedMillis());
+        } catch (Exception e) {
+            inFlight.forEach(chunk -> chunk.future.cancel(true));
+            current.state = BackfillState.FAILED;
+            current.error = e.getMessage();
+            log.error("배지 백필 실패: 마지막 체크포인트 = {}", current.lastUserId, e);
+        } finally {
+            current.finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    private void completeHead(Deque<Chunk> inFlight, Run current) throws Exception {
+        Chunk head = inFlight.removeFirst();
+        try {
+            head.future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        current.lastUserId = head.lastUserId;
+        long processed = current.processedUsers.addAndGet(head.size);
+        jobCheckpointRepository.save(JobCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .lastId(head.lastUserId)
+                .processed(processed)
+                .updatedAt(System.currentTimeMillis())
+                .build());
+        log.info("배지 백필 진행: {}/{} 유저, lastUserId = {}, {} users/s",
+                processed, current.totalUsers, head.lastUserId, String.format("%.1f", current.usersPerSecond()));
+    }
+
+    private Void processChunk(List<Long> userIds, Run current) {
+        long from = userIds.get(0);
+        long to = userIds.get(userIds.size() - 1);
+
+        Map<Long, Map<BadgeMetric, Integer>> metrics = new HashMap<>();
+        for (Long userId : userIds) {
+            metrics.put(userId, new EnumMap<>(BadgeMetric.class));
+        }
+        jdbcTemplate.query(POSE_AGGREGATE, rs -> {
+            Map<BadgeMetric, Integer> values = metrics.get(rs.getLong("user_id"));
+            if (values == null) {
+                return;
+            }
+            float accuracy = rs.getFloat("max_accuracy");
+            if (!rs.wasNull()) {
+                values.put(BadgeMetric.MAX_ACCURACY, (int) (accuracy * 100));
+            }
+            float poseTime = rs.getFloat("max_pose_time");
+            if (!rs.wasNull()) {
+                values.put(BadgeMetric.MAX_POSE_TIME, (int) poseTime);
+            }
+        }, from, to);
+        jdbcTemplate.query(COURSE_AGGREGATE, rs -> {
+            putMetric(metrics, rs.getLong("user_id"), BadgeMetric.COURSES, rs.getInt("cnt"));
+        }, from, to);
+        jdbcTemplate.query(ROOM_RECORD_AGGREGATE, rs -> {
+            putMetric(metrics, rs.getLong("user_id"), BadgeMetric.ROOM_RECORDS, rs.getInt("cnt"));
+        }, from, to);
+        jdbcTemplate.query(USER_RECORDS, rs -> {
+            long userId = rs.getLong("user_id");
+            putMetric(metrics, userId, BadgeMetric.EX_DAYS, rs.getInt("ex_days"));
+            putMetric(metrics, userId, BadgeMetric.EX_CON_DAYS, rs.getInt("ex_con_days"));
+            putMetric(metrics, userId, BadgeMetric.ROOM_WINS, rs.getInt("room_win"));
+        }, from, to);
+
+        // userId -> (badgeId -> highLevel)
+        Map<Long, Map<Long, Integer>> levels = new HashMap<>();
+        jdbcTemplate.query(USER_BADGES, rs -> {
+            levels.computeIfAbsent(rs.getLong("user_id"), id -> new HashMap<>())
+                    .put(rs.getLong("badge_id"), rs.getInt("high_level"));
+        }, from, to);
+
+        BadgeThresholdIndex thresholds = badgeCatalog.getThresholds();
+        long now = System.currentTimeMillis();
+        List<Object[]> levelUps = new ArrayList<>();
+        int[] inserted = new int[1];
+        Set<Long> changedUsers = new HashSet<>();
+        metrics.forEach((userId, values) -> {
+            Map<Long, Integer> current = levels.getOrDefault(userId, Map.of());
+            values.forEach((metric, value) -> {
+                for (BadgeType badgeType : thresholds.badgesFor(metric)) {
+                    int level = thresholds.levelFor(badgeType, value);
+                    Integer existing = current.get(badgeType.getId());
+                    if (level == 0 || (existing != null && existing >= level)) {
+                        continue;
+                    }
+                    if (existing == null) {
+                        inserted[0]++;
+                    }
+                    levelUps.add(new Object[]{userId, badgeType.getId(), level, value, now});
+                    changedUsers.add(userId);
+                }
+            });
+        });
+
+        if (!levelUps.isEmpty()) {
+            // 이벤트 평가가 같은 배지를 동시에 올려도 (user_id, badge_id) 유니크 키로 한 행만 남음
+            transactionTemplate.executeWithoutResult(status -> userBadgeWriter.upsertAll(levelUps));
+            current.insertedBadges.addAndGet(inserted[0]);
+            current.updatedBadges.addAndGet(levelUps.size() - inserted[0]);
+        }
+        // 메모리 집계값이 DB와 달라졌으므로 다음 이벤트에서 다시 로드
+        changedUsers.forEach(badgeEngine::evict);
+        return null;
+    }
+
+    private static void putMetric(Map<Long, Map<BadgeMetric, Integer>> metrics, long userId, BadgeMetric metric, int value) {
+        Map<BadgeMetric, Integer> values = metrics.get(userId);
+        if (values != null) {
+            values.put(metric, value);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private static class Chunk {
+        private final long lastUserId;
+        private final int size;
+        private final Future<Void> future;
+
+        private Chunk(long lastUserId, int size, Future<Void> future) {
+            this.lastUserId = lastUserId;
+            this.size = size;
+            this.future = future;
+        }
+    }
+
+    private static class Run {
+        private final long fromUserId;
+        private final long totalUsers;
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicLong processedUsers = new AtomicLong();
+        private final AtomicLong insertedBadges = new AtomicLong();
+        private final AtomicLong updatedBadges = new AtomicLong();
+        private volatile BackfillState state = BackfillState.RUNNING;
+        private volatile Long lastUserId;
+        private volatile Long finishedAt;
+        private volatile String error;
+
+        private Run(long fromUserId, long totalUsers) {
+            this.fromUserId = fromUserId;
+            this.totalUsers = totalUsers;
+            this.lastUserId = fromUserId;
+        }
+
+        boolean isActive() {
+            return state.isActive();
+        }
+
+        long elapsedMillis() {
+            Long end = finishedAt;
+            return (end != null ? end : System.currentTimeMillis()) - startedAt;
+        }
+
+        double usersPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed == 0 ? 0 : processedUsers.get() * 1000.0 / elapsed;
+        }
+
+        BadgeBackfillRes toRes() {
+            return BadgeBackfillRes.builder()
+                    .state(state)
+                    .lastUserId(lastUserId)
+                    .processedUsers(processedUsers.get())
+                    .totalUsers(totalUsers)
+                    .insertedBadges(insertedBadges.get())
+                    .updatedBadges(updatedBadges.get())
+                    .elapsedMillis(elapsedMillis())
+                    .usersPerSecond(usersPerSecond())
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.dto.respond.BadgeListRes;
+import com.red.yogaback.model.Badge;
+import com.red.yogaback.repository.BadgeRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 배지/배지 레벨 카탈로그: Badge + BadgeDetail을 불변 스냅샷으로 보관하고, 테이블 지문이 바뀔 때만 다시 로드
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeCatalog {
+
+    private final BadgeRepository badgeRepository;
+
+    private volatile Snapshot snapshot;
+
+    // badgeId 오름차순 배지 목록
+    public List<Entry> getBadges() {
+        return current().badges;
+    }
+
+    public Entry getBadge(Long badgeId) {
+        return current().byId.get(badgeId);
+    }
+
+    public BadgeThresholdIndex getThresholds() {
+        return current().thresholds;
+    }
+
+    // 변경 여부와 상관없이 다시 로드
+    public synchronized void reload() {
+        snapshot = load(badgeRepository.findCatalogFingerprint());
+        log.info("배지 카탈로그 로드: {}개", snapshot.badges.size());
+    }
+
+    @Scheduled(fixedDelayString = "${badge.catalog.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        String fingerprint = badgeRepository.findCatalogFingerprint();
+        if (!Objects.equals(fingerprint, current.fingerprint)) {
+            log.info("배지 카탈로그 변경 감지: {} -> {}", current.fingerprint, fingerprint);
+            reload();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load(String fingerprint) {
+        List<Entry> badges = badgeRepository.findAllWithDetails().stream()
+                .sorted(Comparator.comparing(Badge::getBadgeId))
+                .map(Entry::from)
+                .collect(Collectors.toUnmodifiableList());
+        return new Snapshot(fingerprint, badges);
+    }
+
+    private static class Snapshot {
+        private final String fingerprint;
+        private final List<Entry> badges;
+        private final Map<Long, Entry> byId;
+        private final BadgeThresholdIndex thresholds;
+
+        private Snapshot(String fingerprint, List<Entry> badges) {
+            this.fingerprint = fingerprint;
+            this.badges = badges;
+            Map<Long, Entry> map = new LinkedHashMap<>();
+            badges.forEach(entry -> map.put(entry.getBadgeId(), entry));
+            this.byId = Map.copyOf(map);
+            this.thresholds = new BadgeThresholdIndex(badges);
+        }
+    }
+
+    /**
+     * 배지 하나와 레벨별 상세 (레벨 오름차순)
+     */
+    @Getter
+    public static class Entry {
+        private final Long badgeId;
+        private final String badgeName;
+        private final int badgeMaxLv;
+        private final List<BadgeListRes.BadgeDetailRes> details;
+
+        public Entry(Long badgeId, String badgeName, int badgeMaxLv, List<BadgeListRes.BadgeDetailRes> details) {
+            this.badgeId = badgeId;
+            this.badgeName = badgeName;
+            this.badgeMaxLv = badgeMaxLv;
+            this.details = List.copyOf(details);
+        }
+
+        static Entry from(Badge badge) {
+            List<BadgeListRes.BadgeDetailRes> details = badge.getBadgeDetails().stream()
+                    .sorted(Comparator.comparingInt(detail -> detail.getBadgeLevel()))
+                    .map(detail -> new BadgeListRes.BadgeDetailRes(
+                            detail.getBadgeDetailId(),
+                            detail.getBadgeDetailName(),
+                            detail.getBadgeDetailImg(),
+                            detail.getBadgeDescription(),
+                            detail.getBadgeGoal(),
+                            detail.getBadgeLevel()
+                    )).collect(Collectors.toList());
+            return new Entry(badge.getBadgeId(), badge.getBadgeName(), badge.getBadgeMaxLv(), details);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.BadgeMetric;
+import com.red.yogaback.constant.BadgeType;
+import com.red.yogaback.dto.projection.PoseMaxRow;
+import com.red.yogaback.dto.projection.UserBadgeRow;
+import com.red.yogaback.event.CourseCreated;
+import com.red.yogaback.event.PoseBatchRecorded;
+import com.red.yogaback.event.PoseRecorded;
+import com.red.yogaback.event.RoomFinished;
+import com.red.yogaback.event.StreakChanged;
+import com.red.yogaback.global.LruMap;
+import com.red.yogaback.model.UserRecord;
+import com.red.yogaback.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 이벤트 기반 증분 배지 평가: 유저별 집계값을 LRU로 보관하고 바뀐 지표의 배지만 다시 평가
+@Slf4j
+@Component
+public class BadgeEngine {
+
+    private final UserBadgeRepository userBadgeRepository;
+    private final UserBadgeWriter userBadgeWriter;
+    private final UserRecordRepository userRecordRepository;
+    private final PoseRecordRepository poseRecordRepository;
+    private final RoomRecordRepository roomRecordRepository;
+    private final UserCourseRepository userCourseRepository;
+    private final BadgeCatalog badgeCatalog;
+
+    // lock: this
+    private final LruMap<Long, Aggregate> aggregates;
+
+    public BadgeEngine(UserBadgeRepository userBadgeRepository,
+                       UserBadgeWriter userBadgeWriter,
+                       UserRecordRepository userRecordRepository,
+                       PoseRecordRepository poseRecordRepository,
+                       RoomRecordRepository roomRecordRepository,
+                       UserCourseRepository userCourseRepository,
+                       BadgeCatalog badgeCatalog,
+                       @Value("${badge.engine.max-users:10000}") int maxUsers) {
+        this.userBadgeRepository = userBadgeRepository;
+        this.userBadgeWriter = userBadgeWriter;
+        this.userRecordRepository = userRecordRepository;
+        this.poseRecordRepository = poseRecordRepository;
+        this.roomRecordRepository = roomRecordRepository;
+        this.userCourseRepository = userCourseRepository;
+        this.badgeCatalog = badgeCatalog;
+        this.aggregates = new LruMap<>(maxUsers);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPoseRecorded(PoseRecorded event) {
+        applyPoseMax(event.getUserId(), event.getAccuracy(), event.getPoseTime());
+    }
+
+    // 배치 저장은 배치 내 최고값으로 한 번만 평가
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPoseBatchRecorded(PoseBatchRecorded event) {
+        applyPoseMax(event.getUserId(), event.getMaxAccuracy(), event.getMaxPoseTime());
+    }
+
+    private void applyPoseMax(Long userId, Float accuracy, Float poseTime) {
+        Aggregate aggregate = cached(userId);
+        if (aggregate == null) {
+            evaluateAll(userId);
+            return;
+        }
+        synchronized (aggregate) {
+            if (accuracy != null) {
+                aggregate.maxAccuracy = Math.max(aggregate.maxAccuracy, (int) (accuracy * 100));
+            }
+            if (poseTime != null) {
+                aggregate.maxPoseTime = Math.max(aggregate.maxPoseTime, poseTime.intValue());
+            }
+            evaluate(userId, aggregate, BadgeMetric.MAX_ACCURACY, BadgeMetric.MAX_POSE_TIME);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCourseCreated(CourseCreated event) {
+        Aggregate aggregate = cached(event.getUserId());
+        if (aggregate == null) {
+            evaluateAll(event.getUserId());
+            return;
+        }
+        // 증분 대신 커밋된 값을 다시 읽음: 캐시가 비어 있을 때 load()가 이미 이 이벤트를 셌을 수 있음
+        synchronized (aggregate) {
+            aggregate.courseCount = userCourseRepository.countByUser_UserId(event.getUserId());
+            evaluate(event.getUserId(), aggregate, BadgeMetric.COURSES);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRoomFinished(RoomFinished event) {
+        Aggregate aggregate = cached(event.getUserId());
+        if (aggregate == null) {
+            evaluateAll(event.getUserId());
+            return;
+        }
+        synchronized (aggregate) {
+            aggregate.roomRecordCount = roomRecordRepository.countByUser_UserId(event.getUserId());
+            aggregate.roomWin = userRecordRepository.findByUser_UserId(event.getUserId())
+                    .map(userRecord -> toInt(userRecord.getRoomWin()))
+                    .orElse(aggregate.roomWin);
+            evaluate(event.getUserId(), aggregate, BadgeMetric.ROOM_RECORDS, BadgeMetric.ROOM_WINS);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onStreakChanged(StreakChanged event) {
+        Aggregate aggregate = cached(event.getUserId());
+        if (aggregate == null) {
+            evaluateAll(event.getUserId());
+            return;
+        }
+        synchronized (aggregate) {
+            aggregate.exDays = (int) event.getExDays();
+            aggregate.exConDays = (int) event.getExConDays();
+            evaluate(event.getUserId(), aggregate, BadgeMetric.EX_DAYS, BadgeMetric.EX_CON_DAYS);
+        }
+    }
+
+    // 코스 삭제 등 증분으로 맞출 수 없는 변경 시 집계값을 버리고 다음 이벤트에서 다시 로드
+    public void evict(Long userId) {
+        synchronized (this) {
+            aggregates.remove(userId);
+        }
+    }
+
+    private Aggregate cached(Long userId) {
+        evictOnRollback(userId);
+        synchronized (this) {
+            return aggregates.get(userId);
+        }
+    }
+
+    // 배지 쓰기가 커밋되지 않으면 메모리 집계값/레벨도 믿을 수 없으므로 버리고 다음 이벤트에서 다시 로드
+    private void evictOnRollback(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(userId);
+                }
+            }
+        });
+    }
+
+    private void evaluateAll(Long userId) {
+        Aggregate loaded = load(userId);
+        Aggregate aggregate;
+        synchronized (this) {
+            aggregate = aggregates.putIfAbsent(userId, loaded);
+            if (aggregate == null) {
+                aggregate = loaded;
+            }
+        }
+        synchronized (aggregate) {
+            evaluate(userId, aggregate, BadgeMetric.values());
+        }
+    }
+
+    // 변경된 지표로 평가되는 배지만 목표값 인덱스로 다시 평가
+    private void evaluate(Long userId, Aggregate aggregate, BadgeMetric... metrics) {
+        BadgeThresholdIndex thresholds = badgeCatalog.getThresholds();
+        for (BadgeMetric metric : metrics) {
+            int value = aggregate.valueOf(metric);
+            for (BadgeType badgeType : thresholds.badgesFor(metric)) {
+                int level = thresholds.levelFor(badgeType, value);
+                Integer current = aggregate.levels.get(badgeType);
+                if (level == 0 || (current != null && current >= level)) {
+                    continue;
+                }
+                userBadgeWriter.upsert(userId, badgeType.getId(), level, value, System.currentTimeMillis());
+                aggregate.levels.put(badgeType, level);
+                log.info("배지 레벨업: userId = {}, badge = {}, level = {}", userId, badgeType, level);
+            }
+        }
+    }
+
+    private Aggregate load(Long userId) {
+        Aggregate aggregate = new Aggregate();
+        PoseMaxRow poseMax = poseRecordRepository.findMaxesByUserId(userId);
+        if (poseMax != null) {
+            aggregate.maxAccuracy = poseMax.getMaxAccuracy() != null ? (int) (poseMax.getMaxAccuracy() * 100) : 0;
+            aggregate.maxPoseTime = poseMax.getMaxPoseTime() != null ? poseMax.getMaxPoseTime().intValue() : 0;
+        }
+        aggregate.courseCount = userCourseRepository.countByUser_UserId(userId);
+        aggregate.roomRecordCount = roomRecordRepository.countByUser_UserId(userId);
+        UserRecord userRecord = userRecordRepository.findByUser_UserId(userId).orElse(null);
+        if (userRecord != null) {
+            aggregate.exDays = toInt(userRecord.getExDays());
+            aggregate.exConDays = toInt(userRecord.getExConDays());
+            aggregate.roomWin = toInt(userRecord.getRoomWin());
+        }
+        for (UserBadgeRow row : userBadgeRepository.findBadgeRowsByUserId(userId)) {
+            BadgeType badgeType = BadgeType.fromId(row.getBadgeId());
+            if (badgeType != null) {
+                aggregate.levels.put(badgeType, row.getHighLevel());
+            }
+        }
+        return aggregate;
+    }
+
+    private static int toInt(Long value) {
+        return value == null ? 0 : value.intValue();
+    }
+
+    // 유저 한 명의 배지 집계값 (lock: 자기 자신)
+    private static class Aggregate {
+        private int maxAccuracy;     // 최고 정확도 (%)
+        private int maxPoseTime;     // 최대 포즈 유지 시간 (초)
+        private int courseCount;
+        private int roomRecordCount;
+        private int roomWin;
+        private int exDays;
+        private int exConDays;
+        private final Map<BadgeType, Integer> levels = new EnumMap<>(BadgeType.class);
+
+        int valueOf(BadgeMetric metric) {
+            switch (metric) {
+                case EX_DAYS:
+                    return exDays;
+                case EX_CON_DAYS:
+                    return exConDays;
+                case ROOM_RECORDS:
+                    return roomRecordCount;
+                case ROOM_WINS:
+                    return roomWin;
+                case COURSES:
+                    return courseCount;
+                case MAX_ACCURACY:
+                    return maxAccuracy;
+                case MAX_POSE_TIME:
+                    return maxPoseTime;
+                default:
+                    return 0;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.red.yogaback.service;
 
 import com.red.yogaback.constant.BadgeType;
+import com.red.yogaback.dto.projection.UserBadgeRow;
 import com.red.yogaback.dto.respond.BadgeListRes;
 import com.red.yogaback.dto.respond.UserInfoRes;
 import com.red.yogaback.model.*;
@@ -10,9 +11,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -22,52 +26,40 @@ import java.util.stream.Collectors;
 public class BadgeService {
 
     private final BadgeRepository badgeRepository;
+    private final BadgeCatalog badgeCatalog;
     private final UserBadgeRepository userBadgeRepository;
     private final UserRepository userRepository;
     private final UserRecordRepository userRecordRepository;
-    private final PoseRecordRepository poseRecordRepository;
-    private final RoomRecordRepository roomRecordRepository;
-    private final UserCourseRepository userCourseRepository;
 
     // 배지 목록 요청
+    // 배지/레벨 정보는 BadgeCatalog 스냅샷을 사용하고, 유저 배지는 badgeId 맵으로 조인합니다.
     @Transactional
     public List<BadgeListRes> getBadgeList(Long userId) {
         User user = userRepository.findById(userId).orElseThrow(
                 () -> new NoSuchElementException("유저를 찾을 수 없습니다.")
         );
         Optional<UserRecord> userRecord = userRecordRepository.findByUser(user);
-        List<UserBadge> userBadges = userBadgeRepository.findByUser(user);
-        List<Badge> badges = badgeRepository.findAll();
-
-
-        return badges.stream().map((badge) -> {
-            Optional<UserBadge> userBadgeOpt = userBadges.stream().filter(userBadge -> userBadge.getBadge().equals(badge))
-                    .findFirst();
-
-            int progress = userBadgeOpt.map(UserBadge::getProgress).orElse(0);
-            if (badge.getBadgeId() == 2L) {
-                progress = userRecord.get().getExConDays().intValue();
+        Map<Long, UserBadgeRow> userBadges = userBadgeRepository.findBadgeRowsByUserId(userId).stream()
+                .collect(Collectors.toMap(UserBadgeRow::getBadgeId, Function.identity(), (a, b) -> a));
+
+        List<BadgeListRes> result = new ArrayList<>();
+        for (BadgeCatalog.Entry badge : badgeCatalog.getBadges()) {
+            UserBadgeRow userBadge = userBadges.get(badge.getBadgeId());
+            int progress = userBadge != null ? userBadge.getProgress() : 0;
+            if (BadgeType.CONSECUTIVE_DAYS.getId().equals(badge.getBadgeId())) {
+                progress = userRecord.map(record -> record.getExConDays().intValue()).orElse(0);
             }
-            int highLevel = userBadgeOpt.map(UserBadge::getHighLevel).orElse(0);
+            int highLevel = userBadge != null ? userBadge.getHighLevel() : 0;
 
-            List<BadgeListRes.BadgeDetailRes> badgeDetailRes = badge.getBadgeDetails()
-                    .stream().map((detail) -> new BadgeListRes.BadgeDetailRes(
-                            detail.getBadgeDetailId(),
-                            detail.getBadgeDetailName(),
-                            detail.getBadgeDetailImg(),
-                            detail.getBadgeDescription(),
-                            detail.getBadgeGoal(),
-                            detail.getBadgeLevel()
-                    )).collect(Collectors.toList());
-
-            return new BadgeListRes(
+            result.add(new BadgeListRes(
                     badge.getBadgeId(),
                     badge.getBadgeName(),
                     progress,
                     highLevel,
-                    badgeDetailRes
-            );
-        }).collect(Collectors.toList());
+                    badge.getDetails()
+            ));
+        }
+        return result;
     }
 
 
@@ -208,81 +200,6 @@ public class BadgeService {
 
     // 유저 기록 체크
 
-    /**
-     * 유저 기록 체크 및 배지 부여
-     **/
-    @Transactional
-    public void updateUserRecordAndAssignBadges(User user) {
-        UserRecord userRecord = userRecordRepository.findByUser(user)
-                .orElseThrow(() -> new NoSuchElementException("유저 기록을 찾을 수 없습니다."));
-
-        // 1. 정확도 기반 배지 체크 - 단 한 번의 쿼리로 최고 정확도 조회
-        Optional<Float> maxAccuracy = poseRecordRepository.findMaxAccuracyByUser(user);
-
-        log.info("user : {}, maxAccuracy: {}", user, maxAccuracy);
-        maxAccuracy.ifPresent(accuracy -> {
-            int newAccuracy = (int) (accuracy * 100);
-            log.info("newAccuracy: {}", newAccuracy);
-            if (newAccuracy >= 95) {
-                assignBadge(user, BadgeType.YOGA_ACCURACY, 3, newAccuracy);
-            } else if (newAccuracy >= 90) {
-                assignBadge(user, BadgeType.YOGA_ACCURACY, 2, newAccuracy);
-            } else if (newAccuracy >= 80) {
-                assignBadge(user, BadgeType.YOGA_ACCURACY, 1, newAccuracy);
-            }
-        });
-
-        // 2. 포즈 유지 시간 체크
-        Optional<Integer> maxPoseTime = poseRecordRepository.findMaxPoseTimeByUser(user);
-        maxPoseTime.ifPresent(poseTime -> {
-            if (poseTime >= 15) {
-                assignBadge(user, BadgeType.YOGA_POSETIME, 1, poseTime);
-            }
-        });
-
-        // 3. 요가 코스 완료 수 체크
-        int coursesCount = userCourseRepository.countByUser(user);
-        log.info("요가 코스 배지 체크 , 현재 코스 개수 : {}",coursesCount);
-        if (coursesCount >= 5) {
-            assignBadge(user, BadgeType.YOGA_COURSES, 3, coursesCount);
-        } else if (coursesCount >= 3) {
-            assignBadge(user, BadgeType.YOGA_COURSES, 2, coursesCount);
-        } else if (coursesCount >= 1) {
-            assignBadge(user, BadgeType.YOGA_COURSES, 1, coursesCount);
-        }
-
-        // 4. 첫 멀티플레이 체크
-        int roomRecordsCount = roomRecordRepository.countByUser(user);
-        if (roomRecordsCount >= 1) {
-            assignBadge(user, BadgeType.FIRST_MULTIPLAYER, 1, 1);
-        }
-
-        // 5. 첫 운동 체크
-        Long exDays = userRecord.getExDays();
-        if (exDays >= 1) {
-            assignBadge(user, BadgeType.FIRST_EXERCISE, 1, exDays.intValue());
-        }
-
-        // 6. 연속 운동 일수 체크
-        Long exConDays = userRecord.getExConDays();
-        if (exConDays >= 30) {
-            assignBadge(user, BadgeType.CONSECUTIVE_DAYS, 3, exConDays.intValue());
-        } else if (exConDays >= 20) {
-            assignBadge(user, BadgeType.CONSECUTIVE_DAYS, 2, exConDays.intValue());
-        } else if (exConDays >= 10) {
-            assignBadge(user, BadgeType.CONSECUTIVE_DAYS, 1, exConDays.intValue());
-        }
-
-        // 7. 방 우승 수 체크
-        Long roomWinCount = userRecord.getRoomWin();
-        if (roomWinCount >= 5) {
-            assignBadge(user, BadgeType.ROOM_WINS, 3, roomWinCount.intValue());
-        } else if (roomWinCount >= 3) {
-            assignBadge(user, BadgeType.ROOM_WINS, 2, roomWinCount.intValue());
-        } else if (roomWinCount >= 1) {
-            assignBadge(user, BadgeType.ROOM_WINS, 1, roomWinCount.intValue());
-        }
-    }
 //    public void updateUserRecordAndAssignBadge(Long userId) {
 //        User user = userRepository.findById(userId).orElseThrow(
 //                () -> new NoSuchElementException("유저를 찾을 수 없습니다.")
@@ -0,0 +1,65 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.BadgeMetric;
+import com.red.yogaback.constant.BadgeType;
+import com.red.yogaback.dto.respond.BadgeListRes;
+
+import java.util.*;
+
+// 배지별 목표값(오름차순) 배열: value 이하인 가장 큰 목표값의 레벨을 이진 탐색으로 찾음 (불변)
+public class BadgeThresholdIndex {
+
+    private final Map<BadgeType, int[]> goals = new EnumMap<>(BadgeType.class);
+    private final Map<BadgeType, int[]> levels = new EnumMap<>(BadgeType.class);
+    private final Map<BadgeMetric, List<BadgeType>> byMetric = new EnumMap<>(BadgeMetric.class);
+
+    BadgeThresholdIndex(List<BadgeCatalog.Entry> badges) {
+        for (BadgeCatalog.Entry badge : badges) {
+            BadgeType badgeType = BadgeType.fromId(badge.getBadgeId());
+            if (badgeType == null || badge.getDetails().isEmpty()) {
+                continue;
+            }
+            List<BadgeListRes.BadgeDetailRes> details = new ArrayList<>(badge.getDetails());
+            details.sort(Comparator.comparingInt(BadgeListRes.BadgeDetailRes::getBadgeGoal)
+                    .thenComparingInt(BadgeListRes.BadgeDetailRes::getBadgeLevel));
+            int[] goalArray = new int[details.size()];
+            int[] levelArray = new int[details.size()];
+            for (int i = 0; i < details.size(); i++) {
+                goalArray[i] = details.get(i).getBadgeGoal();
+                // 목표값이 더 높은데 레벨이 낮게 잘못 들어간 경우에도 레벨이 내려가지 않도록
+                levelArray[i] = i == 0 ? details.get(i).getBadgeLevel()
+                        : Math.max(levelArray[i - 1], details.get(i).getBadgeLevel());
+            }
+            goals.put(badgeType, goalArray);
+            levels.put(badgeType, levelArray);
+            byMetric.computeIfAbsent(badgeType.getMetric(), metric -> new ArrayList<>()).add(badgeType);
+        }
+    }
+
+    /**
+     * value로 달성한 레벨 (0이면 미달성)
+     */
+    public int levelFor(BadgeType badgeType, int value) {
+        int[] goalArray = goals.get(badgeType);
+        if (goalArray == null) {
+            return 0;
+        }
+        // value 이하인 목표값의 개수 (upper bound)
+        int low = 0;
+        int high = goalArray.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (goalArray[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low == 0 ? 0 : levels.get(badgeType)[low - 1];
+    }
+
+    // 해당 지표로 평가되는 배지들
+    public List<BadgeType> badgesFor(BadgeMetric metric) {
+        return byMetric.getOrDefault(metric, List.of());
+    }
+}
@@ -0,0 +1,346 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.dto.request.FinalRoomResult;
+import com.red.yogaback.dto.request.PoseRecordBatchRequest;
+import com.red.yogaback.dto.request.RoomRequest;
+import com.red.yogaback.dto.request.ScoreMessage;
+import com.red.yogaback.global.DaemonThreads;
+import com.red.yogaback.websocket.dto.RoundStandingsMessage;
+import com.red.yogaback.websocket.dto.SignalType;
+import com.red.yogaback.websocket.service.UserSessionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+// 멀티 방 게임 진행/점수 집계: game_state(0 시작, n 라운드, -1 종료)에 맞춰 서버 기준 순위를 방 채널로 보냄
+@Slf4j
+@Service
+public class GameSessionService {
+
+    public static final int STATE_START = 0;
+    public static final int STATE_END = -1;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserSessionService userSessionService;
+    private final RoomCourseCache roomCourseCache;
+    private final RoomRecordService roomRecordService;
+    private final PoseRecordService poseRecordService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean persistPoseRecords;
+    private final long idleEvictMillis;
+
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService finalizer;
+
+    public GameSessionService(SimpMessagingTemplate messagingTemplate,
+                              UserSessionService userSessionService,
+                              RoomCourseCache roomCourseCache,
+                              RoomRecordService roomRecordService,
+                              PoseRecordService poseRecordService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${game.engine.persist-pose-records:false}") boolean persistPoseRecords,
+                              @Value("${game.engine.idle-evict-ms:600000}") long idleEvictMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.userSessionService = userSessionService;
+        this.roomCourseCache = roomCourseCache;
+        this.roomRecordService = roomRecordService;
+        this.poseRecordService = poseRecordService;
+        this.transactionTemplate = transactionTemplate;
+        this.persistPoseRecords = persistPoseRecords;
+        this.idleEvictMillis = idleEvictMillis;
+        this.finalizer = DaemonThreads.single("game-finalize");
+    }
+
+    /**
+     * 방 채널로 중계된 game_state 반영
+     */
+    public void onGameState(Long roomId, int state) {
+        if (state == STATE_START) {
+            start(roomId);
+        } else if (state == STATE_END) {
+            finish(roomId);
+        } else if (state > 0) {
+            startRound(roomId, state);
+        }
+    }
+
+    /**
+     * 라운드 점수 반영
+     * @return 진행 중인 게임의 참가자가 보낸 유효한 라운드면 true
+     */
+    public boolean submitScore(Long roomId, Long userId, ScoreMessage message) {
+        GameSession session = sessions.get(roomId);
+        if (session == null) {
+            log.debug("진행 중인 게임 없음, 점수 무시: roomId = {}, userId = {}", roomId, userId);
+            return false;
+        }
+        // 시작 시점 참가자이면서 지금도 이 방에 접속해 있는 사용자만 반영
+        if (!session.roster.contains(userId)
+                || !userSessionService.isInRoom(String.valueOf(roomId), String.valueOf(userId))) {
+            log.warn("방 참가자가 아닌 점수 무시: roomId = {}, userId = {}", roomId, userId);
+            return false;
+        }
+        RoundStandingsMessage completed = null;
+        synchronized (session) {
+            int round = message.getRoundIndex();
+            if (session.finished || round < 1 || round > session.roundCount()) {
+                return false;
+            }
+            session.lastActivityAt = System.currentTimeMillis();
+            Leaderboard roundBoard = session.rounds.computeIfAbsent(round, r -> new Leaderboard());
+            int previous = roundBoard.scoreOf(userId);
+            roundBoard.put(userId, message.getScore());
+            session.total.add(userId, message.getScore() - previous);
+            session.durations.computeIfAbsent(round, r -> new HashMap<>()).put(userId, (float) message.getDuration());
+
+            // 시작 시점 참가자가 모두 보냈으면 바로 발표
+            if (!session.announced.contains(round)
+                    && !session.roster.isEmpty()
+                    && roundBoard.size() >= session.roster.size()) {
+                completed = announce(session, round);
+            }
+        }
+        if (completed != null) {
+            broadcast(roomId, SignalType.ROUND_STANDINGS, completed);
+        }
+        return true;
+    }
+
+    private void start(Long roomId) {
+        List<RoomRequest.PoseDetail> course = new ArrayList<>(roomCourseCache.get(roomId));
+        course.sort(Comparator.comparingInt(RoomRequest.PoseDetail::getUserOrderIndex));
+        Set<Long> roster = new HashSet<>();
+        for (String userId : userSessionService.roomUserIds(String.valueOf(roomId))) {
+            try {
+                roster.add(Long.valueOf(userId));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        // 여러 참가자가 시작 메시지를 보내도 게임은 한 번만 시작
+        if (sessions.putIfAbsent(roomId, new GameSession(course, roster)) != null) {
+            log.debug("이미 진행 중인 게임: roomId = {}", roomId);
+            return;
+        }
+        log.info("게임 시작: roomId = {}, 참가자 = {}명, 라운드 = {}", roomId, roster.size(), course.size());
+    }
+
+    private void startRound(Long roomId, int round) {
+        GameSession session = sessions.get(roomId);
+        if (session == null) {
+            return;
+        }
+        List<RoundStandingsMessage> pending;
+        synchronized (session) {
+            session.lastActivityAt = System.currentTimeMillis();
+            // 아직 발표하지 않은 이전 라운드는 다음 라운드 시작 시 발표
+            pending = announcePending(session, round);
+        }
+        pending.forEach(standings -> broadcast(roomId, SignalType.ROUND_STANDINGS, standings));
+    }
+
+    private void finish(Long roomId) {
+        GameSession session = sessions.remove(roomId);
+        if (session != null) {
+            complete(roomId, session);
+        }
+    }
+
+    /**
+     * 종료 메시지 없이 남은 게임 정리
+     * - 시작 시점 참가자가 모두 방을 나갔으면 결과 없이 버림
+     * - 참가자는 남아 있지만 idle-evict-ms 동안 진행이 없으면 (종료 메시지 유실) 지금까지의 결과로 종료
+     */
+    @Scheduled(fixedDelayString = "${game.engine.idle-evict-ms:600000}")
+    public void evictIdleSessions() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, GameSession> entry : sessions.entrySet()) {
+            Long roomId = entry.getKey();
+            GameSession session = entry.getValue();
+            Set<String> present = userSessionService.roomUserIds(String.valueOf(roomId));
+            boolean abandoned = session.roster.stream().noneMatch(userId -> present.contains(String.valueOf(userId)));
+            if (abandoned) {
+                if (sessions.remove(roomId, session)) {
+                    synchronized (session) {
+                        session.finished = true;
+                    }
+                    log.info("참가자가 모두 나간 게임 정리: roomId = {}", roomId);
+                }
+            } else if (now - session.lastActivityAt > idleEvictMillis && sessions.remove(roomId, session)) {
+                log.warn("종료 메시지 없이 멈춘 게임 종료 처리: roomId = {}", roomId);
+                complete(roomId, session);
+            }
+        }
+    }
+
+    private void complete(Long roomId, GameSession session) {
+        List<RoundStandingsMessage> pending;
+        RoundStandingsMessage result;
+        List<FinalRoomResult> results;
+        synchronized (session) {
+            session.finished = true;
+            pending = announcePending(session, Integer.MAX_VALUE);
+            result = gameResult(session);
+            results = finalResults(session);
+        }
+        pending.forEach(standings -> broadcast(roomId, SignalType.ROUND_STANDINGS, standings));
+        broadcast(roomId, SignalType.GAME_RESULT, result);
+        if (!results.isEmpty()) {
+            finalizer.execute(() -> persist(roomId, results));
+        }
+    }
+
+    // RoomRecord와 PoseRecord를 한 트랜잭션에서 저장
+    private void persist(Long roomId, List<FinalRoomResult> results) {
+        try {
+            int[] written = new int[2];
+            transactionTemplate.executeWithoutResult(status -> {
+                List<FinalRoomResult> saved = roomRecordService.saveGameResults(roomId, results);
+                written[0] = saved.size();
+                // 최종 기록을 직접 올린 참가자는 포즈 기록도 직접 올리므로 제외
+                if (persistPoseRecords && !saved.isEmpty()) {
+                    written[1] = poseRecordService.createRoomRoundRecords(roomId, saved);
+                }
+            });
+            log.info("게임 결과 저장: roomId = {}, RoomRecord {}건, PoseRecord {}건", roomId, written[0], written[1]);
+        } catch (RuntimeException e) {
+            log.error("게임 결과 저장 실패: roomId = {}", roomId, e);
+        }
+    }
+
+    // lock: session
+    private List<RoundStandingsMessage> announcePending(GameSession session, int beforeRound) {
+        List<RoundStandingsMessage> pending = new ArrayList<>();
+        for (Integer round : new ArrayList<>(session.rounds.keySet())) {
+            if (round < beforeRound && !session.announced.contains(round)) {
+                pending.add(announce(session, round));
+            }
+        }
+        return pending;
+    }
+
+    // lock: session
+    private RoundStandingsMessage announce(GameSession session, int round) {
+        session.announced.add(round);
+        Map<Long, Leaderboard.Standing> totals = totalsByUser(session);
+        List<RoundStandingsMessage.Standing> standings = new ArrayList<>();
+        for (Leaderboard.Standing standing : session.rounds.get(round).standings()) {
+            Leaderboard.Standing total = totals.get(standing.getUserId());
+            standings.add(RoundStandingsMessage.Standing.builder()
+                    .userId(String.valueOf(standing.getUserId()))
+                    .score(standing.getScore())
+                    .rank(standing.getRank())
+                    .totalScore(total.getScore())
+                    .totalRank(total.getRank())
+                    .build());
+        }
+        return RoundStandingsMessage.builder()
+                .type(SignalType.ROUND_STANDINGS.getWire())
+                .roundIndex(round)
+                .standings(standings)
+                .build();
+    }
+
+    // lock: session
+    private RoundStandingsMessage gameResult(GameSession session) {
+        List<RoundStandingsMessage.Standing> standings = new ArrayList<>();
+        for (Leaderboard.Standing total : session.total.standings()) {
+            standings.add(RoundStandingsMessage.Standing.builder()
+                    .userId(String.valueOf(total.getUserId()))
+                    .score(total.getScore())
+                    .rank(total.getRank())
+                    .totalScore(total.getScore())
+                    .totalRank(total.getRank())
+                    .build());
+        }
+        return RoundStandingsMessage.builder()
+                .type(SignalType.GAME_RESULT.getWire())
+                .standings(standings)
+                .build();
+    }
+
+    // lock: session
+    private List<FinalRoomResult> finalResults(GameSession session) {
+        Map<Integer, Map<Long, Integer>> roundRanks = new HashMap<>();
+        session.rounds.forEach((round, board) -> {
+            Map<Long, Integer> ranks = new HashMap<>();
+            board.standings().forEach(standing -> ranks.put(standing.getUserId(), standing.getRank()));
+            roundRanks.put(round, ranks);
+        });
+
+        List<FinalRoomResult> results = new ArrayList<>();
+        for (Leaderboard.Standing total : session.total.standings()) {
+            Long userId = total.getUserId();
+            List<PoseRecordBatchRequest.Item> items = new ArrayList<>();
+            session.rounds.forEach((round, board) -> {
+                if (!board.contains(userId)) {
+                    return;
+                }
+                // 서버는 라운드 점수만 받으므로 정확도(0~1)는 비워 둠
+                items.add(PoseRecordBatchRequest.Item.builder()
+                        .poseId(session.course.get(round - 1).getPoseId())
+                        .ranking(roundRanks.get(round).get(userId))
+                        .poseTime(session.durations.get(round).get(userId))
+                        .build());
+            });
+            results.add(FinalRoomResult.builder()
+                    .userId(userId)
+                    .totalRanking(total.getRank())
+                    .totalScore(total.getScore())
+                    .rounds(items)
+                    .build());
+        }
+        return results;
+    }
+
+    private Map<Long, Leaderboard.Standing> totalsByUser(GameSession session) {
+        Map<Long, Leaderboard.Standing> totals = new HashMap<>();
+        session.total.standings().forEach(standing -> totals.put(standing.getUserId(), standing));
+        return totals;
+    }
+
+    private void broadcast(Long roomId, SignalType type, RoundStandingsMessage message) {
+        // 헤더 맵은 STOMP 헤더로 전달되어 클라이언트가 본문을 파싱하기 전에 분기할 수 있음
+        messagingTemplate.convertAndSend("/topic/room/" + roomId, message, Map.of(SignalType.HEADER, type.getWire()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 결과 저장은 마치고 종료
+        DaemonThreads.shutdown(finalizer, 10_000);
+    }
+
+    private static class GameSession {
+        private final List<RoomRequest.PoseDetail> course;   // 라운드 n = course[n-1]
+        private final Set<Long> roster;                       // 시작 시점 참가자
+        private final Map<Integer, Leaderboard> rounds = new TreeMap<>();   // 라운드 순서대로 발표
+        private final Map<Integer, Map<Long, Float>> durations = new HashMap<>();
+        private final Leaderboard total = new Leaderboard();
+        private final Set<Integer> announced = new HashSet<>();
+        private boolean finished;
+        private volatile long lastActivityAt = System.currentTimeMillis();
+
+        private GameSession(List<RoomRequest.PoseDetail> course, Set<Long> roster) {
+            this.course = course;
+            this.roster = roster;
+        }
+
+        private int roundCount() {
+            return course.size();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.red.yogaback.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+// 기록 사진 썸네일/중간 크기 JPEG 생성 (서브샘플링 디코딩, 읽을 수 없는 형식이면 null)
+@Component
+public class ImageVariantProcessor {
+
+    public static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final int thumbMaxPx;
+    private final int mediumMaxPx;
+    private final float jpegQuality;
+
+    public ImageVariantProcessor(@Value("${image.variant.thumb-max-px:240}") int thumbMaxPx,
+                                 @Value("${image.variant.medium-max-px:960}") int mediumMaxPx,
+                                 @Value("${image.variant.jpeg-quality:0.8}") float jpegQuality) {
+        this.thumbMaxPx = thumbMaxPx;
+        this.mediumMaxPx = mediumMaxPx;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 원본 파일로부터 변형본을 만들어 원본과 같은 디렉터리에 저장합니다.
+     * @return 변형본 정보, 이미지로 읽을 수 없으면 null
+     */
+    public Variants process(Path original) throws IOException {
+        BufferedImage source;
+        int width;
+        int height;
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (mediumMaxPx * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        Path thumb = writeVariant(source, thumbMaxPx, original, "thumb");
+        Path medium = Math.max(width, height) > thumbMaxPx
+                ? writeVariant(source, mediumMaxPx, original, "medium")
+                : null;
+        return new Variants(width, height, thumb, medium);
+    }
+
+    private Path writeVariant(BufferedImage source, int maxPx, Path original, String suffix) throws IOException {
+        BufferedImage scaled = scale(source, maxPx);
+        Path target = original.resolveSibling(original.getFileName() + "." + suffix + ".jpg");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return target;
+    }
+
+    // 긴 변이 maxPx 이하가 되도록 축소 (JPEG는 알파가 없으므로 RGB로 그림)
+    private BufferedImage scale(BufferedImage source, int maxPx) {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        double ratio = longest > maxPx ? (double) maxPx / longest : 1.0;
+        int w = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int h = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage scaled = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, w, h, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Variants {
+        private final int width;     // 원본 가로(px)
+        private final int height;    // 원본 세로(px)
+        private final Path thumb;
+        private final Path medium;   // 원본이 썸네일보다 작으면 null
+    }
+}
@@ -0,0 +1,81 @@
+package com.red.yogaback.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 점수 내림차순 순위표 (동점은 같은 등수: 1, 1, 3), 스레드 안전하지 않음
+public class Leaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.userId);
+
+    private final TreeSet<Entry> ordered = new TreeSet<>(ORDER);
+    private final Map<Long, Entry> byUser = new HashMap<>();
+
+    public void put(Long userId, int score) {
+        Entry previous = byUser.get(userId);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        Entry entry = new Entry(userId, score);
+        byUser.put(userId, entry);
+        ordered.add(entry);
+    }
+
+    public void add(Long userId, int delta) {
+        put(userId, scoreOf(userId) + delta);
+    }
+
+    public int scoreOf(Long userId) {
+        Entry entry = byUser.get(userId);
+        return entry == null ? 0 : entry.score;
+    }
+
+    public boolean contains(Long userId) {
+        return byUser.containsKey(userId);
+    }
+
+    public int size() {
+        return byUser.size();
+    }
+
+    public List<Standing> standings() {
+        List<Standing> standings = new ArrayList<>(ordered.size());
+        int rank = 0;
+        Integer previousScore = null;
+        for (Entry entry : ordered) {
+            if (previousScore == null || entry.score != previousScore) {
+                rank = standings.size() + 1;
+                previousScore = entry.score;
+            }
+            standings.add(new Standing(entry.userId, entry.score, rank));
+        }
+        return standings;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Standing {
+        private final Long userId;
+        private final int score;
+        private final int rank;
+    }
+
+    private static class Entry {
+        private final Long userId;
+        private final int score;
+
+        private Entry(Long userId, int score) {
+            this.userId = userId;
+            this.score = score;
+        }
+    }
+}
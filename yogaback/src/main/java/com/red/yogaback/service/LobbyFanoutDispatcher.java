@@ -0,0 +1,279 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.LobbyEventType;
+import com.red.yogaback.global.DaemonThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 로비 SSE 비동기 팬아웃: 구독자별 제한 대기열에 같은 방 인원 변경은 최신 값만 남기고, 넘치거나 느린 구독자는 끊음
+@Slf4j
+@Component
+public class LobbyFanoutDispatcher {
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final ThreadPoolExecutor senderPool;
+    private final int queueCapacity;
+    private final int drainBatchSize;
+    private final long slowSendMillis;
+
+    private final AtomicInteger queuedFrames = new AtomicInteger();
+    private final AtomicInteger dispatchBacklog = new AtomicInteger();
+    private final Timer sendTimer;
+    private final Counter coalescedCounter;
+    private final Counter overflowEvictedCounter;
+    private final Counter sendFailedCounter;
+    private final Counter slowSendEvictedCounter;
+    private final Counter senderRejectedCounter;
+    private final Counter dispatchDroppedCounter;
+
+    public LobbyFanoutDispatcher(MeterRegistry meterRegistry,
+                                 @Value("${sse.fanout.threads:4}") int threads,
+                                 @Value("${sse.fanout.queue-capacity:64}") int queueCapacity,
+                                 @Value("${sse.fanout.drain-batch-size:16}") int drainBatchSize,
+                                 @Value("${sse.fanout.slow-send-millis:500}") long slowSendMillis,
+                                 @Value("${sse.fanout.dispatch-queue-capacity:1024}") int dispatchQueueCapacity,
+                                 @Value("${sse.fanout.sender-queue-capacity:2048}") int senderQueueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.drainBatchSize = drainBatchSize;
+        this.slowSendMillis = slowSendMillis;
+
+        Gauge.builder("sse.lobby.subscribers", subscribers, Map::size)
+                .description("로비 SSE 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.lobby.queue.depth", queuedFrames, AtomicInteger::get)
+                .description("구독자 대기열에 쌓인 전체 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.lobby.dispatch.backlog", dispatchBacklog, AtomicInteger::get)
+                .description("디스패치 대기 중인 프레임 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("sse.lobby.send.latency")
+                .description("구독자 한 명에게 프레임을 쓰는 데 걸린 시간")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("sse.lobby.coalesced")
+                .description("최신 값으로 대체되어 전송되지 않은 프레임 수")
+                .register(meterRegistry);
+        this.overflowEvictedCounter = Counter.builder("sse.lobby.evicted")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.sendFailedCounter = Counter.builder("sse.lobby.evicted")
+                .tag("reason", "send-failed")
+                .register(meterRegistry);
+        this.slowSendEvictedCounter = Counter.builder("sse.lobby.evicted")
+                .tag("reason", "slow-send")
+                .register(meterRegistry);
+        this.senderRejectedCounter = Counter.builder("sse.lobby.evicted")
+                .tag("reason", "sender-full")
+                .register(meterRegistry);
+        this.dispatchDroppedCounter = Counter.builder("sse.lobby.dispatch.dropped")
+                .description("디스패치 대기열이 가득 차 버린 프레임 수")
+                .register(meterRegistry);
+
+        // 디스패치는 단일 스레드로 순서를 지키고, 대기열이 가득 차면 그 프레임을 버림 (요청 스레드를 막지 않음)
+        this.dispatchExecutor = DaemonThreads.pool("sse-dispatch", 1, new ArrayBlockingQueue<>(dispatchQueueCapacity),
+                (task, executor) -> {
+                    dispatchBacklog.decrementAndGet();
+                    dispatchDroppedCounter.increment();
+                    log.warn("SSE 디스패치 대기열 초과로 프레임 버림");
+                });
+        // 구독자당 전송 작업은 최대 하나이므로 대기열 크기는 구독자 수 상한 (넘치면 schedule()에서 구독 해제)
+        this.senderPool = DaemonThreads.pool("sse-fanout", threads, new ArrayBlockingQueue<>(senderQueueCapacity));
+    }
+
+    /**
+     * 구독자를 일시정지 상태로 등록합니다.
+     * 초기 스냅샷/재전송을 보낸 뒤 activate()를 호출해야 라이브 델타가 순서대로 전달됩니다.
+     */
+    public void register(String clientId, SseEmitter emitter, String roomName) {
+        subscribers.put(clientId, new Subscriber(clientId, emitter, roomName == null ? "" : roomName));
+    }
+
+    public void activate(String clientId) {
+        Subscriber subscriber = subscribers.get(clientId);
+        if (subscriber != null && subscriber.resume()) {
+            schedule(subscriber);
+        }
+    }
+
+    public boolean unregister(String clientId) {
+        Subscriber removed = subscribers.remove(clientId);
+        if (removed != null) {
+            queuedFrames.addAndGet(-removed.clear());
+            return true;
+        }
+        return false;
+    }
+
+    // 요청 스레드에서 호출: 디스패치 스레드로 넘기고 즉시 반환
+    public void publish(LobbyFrame frame) {
+        dispatchBacklog.incrementAndGet();
+        dispatchExecutor.execute(() -> {
+            dispatchBacklog.decrementAndGet();
+            dispatch(frame);
+        });
+    }
+
+    private void dispatch(LobbyFrame frame) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!frame.matches(subscriber.roomName)) {
+                continue;
+            }
+            OfferResult result = subscriber.offer(frame);
+            if (result == OfferResult.OVERFLOW) {
+                overflowEvictedCounter.increment();
+                log.info("SSE 대기열 초과로 구독 해제: id = {}", subscriber.clientId);
+                evict(subscriber);
+            } else if (result == OfferResult.SCHEDULE) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    // 전송 작업을 예약하지 못하면 그 구독자는 더 이상 전송되지 않으므로 끊음
+    private void schedule(Subscriber subscriber) {
+        try {
+            senderPool.execute(subscriber::drain);
+        } catch (RejectedExecutionException e) {
+            senderRejectedCounter.increment();
+            log.info("SSE 전송 대기열 초과로 구독 해제: id = {}", subscriber.clientId);
+            evict(subscriber);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (unregister(subscriber.clientId)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        senderPool.shutdownNow();
+    }
+
+    private enum OfferResult { QUEUED, SCHEDULE, OVERFLOW }
+
+    private class Subscriber {
+        private final String clientId;
+        private final SseEmitter emitter;
+        private final String roomName;
+        // lock: this
+        private final ArrayDeque<LobbyFrame> queue = new ArrayDeque<>();
+        // 전송 작업이 예약/실행 중이거나, 초기 전송 전(일시정지)이면 true
+        private boolean draining = true;
+
+        Subscriber(String clientId, SseEmitter emitter, String roomName) {
+            this.clientId = clientId;
+            this.emitter = emitter;
+            this.roomName = roomName;
+        }
+
+        synchronized OfferResult offer(LobbyFrame frame) {
+            Long roomId = frame.getRoomId();
+            if (frame.getType() != LobbyEventType.ROOM_ADDED) {
+                boolean addedPending = false;
+                Iterator<LobbyFrame> it = queue.iterator();
+                while (it.hasNext()) {
+                    LobbyFrame pending = it.next();
+                    if (!roomId.equals(pending.getRoomId())) {
+                        continue;
+                    }
+                    if (pending.getType() == LobbyEventType.ROOM_COUNT_CHANGED
+                            || frame.getType() == LobbyEventType.ROOM_CLOSED) {
+                        addedPending |= pending.getType() == LobbyEventType.ROOM_ADDED;
+                        it.remove();
+                        queuedFrames.decrementAndGet();
+                        coalescedCounter.increment();
+                    }
+                }
+                // 아직 전송하지 않은 방 추가가 종료로 상쇄되면 둘 다 보낼 필요가 없음
+                if (addedPending && frame.getType() == LobbyEventType.ROOM_CLOSED) {
+                    coalescedCounter.increment();
+                    return OfferResult.QUEUED;
+                }
+            }
+            if (queue.size() >= queueCapacity) {
+                return OfferResult.OVERFLOW;
+            }
+            queue.addLast(frame);
+            queuedFrames.incrementAndGet();
+            if (draining) {
+                return OfferResult.QUEUED;
+            }
+            draining = true;
+            return OfferResult.SCHEDULE;
+        }
+
+        synchronized boolean resume() {
+            if (queue.isEmpty()) {
+                draining = false;
+                return false;
+            }
+            return true;
+        }
+
+        synchronized int clear() {
+            int size = queue.size();
+            queue.clear();
+            return size;
+        }
+
+        private synchronized LobbyFrame poll() {
+            LobbyFrame frame = queue.pollFirst();
+            if (frame == null) {
+                draining = false;
+            } else {
+                queuedFrames.decrementAndGet();
+            }
+            return frame;
+        }
+
+        // 한 번에 drainBatchSize개까지만 보내고 남으면 다시 예약 (다른 구독자와 공정하게)
+        // 한 프레임 전송이 slow-send-millis를 넘기면 전송 스레드를 계속 붙잡지 않도록 구독을 끊음
+        void drain() {
+            for (int i = 0; i < drainBatchSize; i++) {
+                LobbyFrame frame = poll();
+                if (frame == null) {
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    emitter.send(frame.getEvent());
+                } catch (IOException | IllegalStateException e) {
+                    sendFailedCounter.increment();
+                    evict(this);
+                    return;
+                } finally {
+                    sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                if (elapsedMillis > slowSendMillis) {
+                    slowSendEvictedCounter.increment();
+                    log.info("SSE 느린 전송으로 구독 해제: id = {}, {}ms", clientId, elapsedMillis);
+                    evict(this);
+                    return;
+                }
+            }
+            schedule(this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.LobbyEventType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Set;
+
+/**
+ * 버전이 부여되고 직렬화가 끝난 로비 델타 프레임
+ * - 같은 프레임 인스턴스를 모든 구독자에게 그대로 재사용합니다.
+ */
+class LobbyFrame {
+    private final long version;
+    private final LobbyEventType type;
+    private final Long roomId;
+    private final String roomName;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> event;
+
+    LobbyFrame(long version, LobbyEventType type, Long roomId, String roomName,
+               Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        this.version = version;
+        this.type = type;
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.event = event;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    LobbyEventType getType() {
+        return type;
+    }
+
+    Long getRoomId() {
+        return roomId;
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> getEvent() {
+        return event;
+    }
+
+    // 방 추가 이벤트는 구독자의 검색어에 맞는 경우에만 전달
+    boolean matches(String keyword) {
+        if (type != LobbyEventType.ROOM_ADDED || keyword == null || keyword.isEmpty()) {
+            return true;
+        }
+        return roomName != null && roomName.contains(keyword);
+    }
+}
@@ -9,7 +9,6 @@ import com.red.yogaback.repository.RoomCoursePoseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -20,36 +19,31 @@ public class MultiService {
 
     private final RoomCoursePoseRepository roomCoursePoseRepository;
     private final PoseRecordRepository poseRecordRepository;
+    private final RoomResultCache roomResultCache;
 
     /**
      * 엔드포인트1: roomId에 해당하는 방의 코스 내 모든 자세에 대해,
      * 각 자세의 poseTime이 가장 긴 기록의 recordImg와 자세 이름, room_order_index를 반환
+     * - 자세별 최장 기록은 윈도우 함수 쿼리 한 번으로 조회합니다. (roomOrderIndex 순)
+     * - 결과는 RoomResultCache에 보관되고, 그 방에 새 기록이 들어올 때만 다시 조회합니다.
      */
     public List<RoomCoursePoseMaxImageDTO> getMaxImageDTOs(Long roomId) {
-        // 해당 room의 RoomCoursePose 목록 조회
-        List<RoomCoursePose> coursePoses = roomCoursePoseRepository.findByRoom_RoomId(roomId);
-        // 각 coursePose별로 최대 poseTime을 가진 record의 이미지 URL을 찾음
-        List<RoomCoursePoseMaxImageDTO> dtoList = new ArrayList<>();
+        return roomResultCache.get(roomId, RoomResultCache.MAX_IMAGES_PAGE, () -> loadMaxImageDTOs(roomId));
+    }
 
-        for (RoomCoursePose coursePose : coursePoses) {
-            Long poseId = coursePose.getPose().getPoseId();
-            // roomId는 RoomRecord 내에 있으므로, query PoseRecordRepository에서 해당 roomId와 poseId에 해당하는 기록 조회
-            List<PoseRecord> records = poseRecordRepository.findByRoomIdAndPoseIdOrderByPoseTimeDesc(roomId, poseId);
-            String maxImageUrl = "";
-            if (!records.isEmpty()) {
-                // 첫번째가 longest poseTime 기록
-                maxImageUrl = records.get(0).getRecordImg();
-            }
-            RoomCoursePoseMaxImageDTO dto = RoomCoursePoseMaxImageDTO.builder()
-                    .poseName(coursePose.getPose().getPoseName())
-                    .poseUrl(maxImageUrl)
-                    .roomOrderIndex(coursePose.getRoomOrderIndex())
-                    .build();
-            dtoList.add(dto);
-        }
-        // 필요시 roomOrderIndex 순으로 정렬
-        return dtoList.stream()
-                .sorted(Comparator.comparingInt(RoomCoursePoseMaxImageDTO::getRoomOrderIndex))
+    private List<RoomCoursePoseMaxImageDTO> loadMaxImageDTOs(Long roomId) {
+        return roomCoursePoseRepository.findBestShotsByRoomId(roomId).stream()
+                .map(row -> {
+                    // 기록이 없는 자세는 빈 문자열
+                    String maxImageUrl = row.getRecordImg() != null ? row.getRecordImg() : "";
+                    return RoomCoursePoseMaxImageDTO.builder()
+                            .poseName(row.getPoseName())
+                            .poseUrl(maxImageUrl)
+                            .poseThumbUrl(row.getRecordThumbImg() != null ? row.getRecordThumbImg() : maxImageUrl)
+                            .poseMediumUrl(row.getRecordMediumImg() != null ? row.getRecordMediumImg() : maxImageUrl)
+                            .roomOrderIndex(row.getRoomOrderIndex())
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
 
@@ -59,6 +53,10 @@ public class MultiService {
      * poseRecords는 poseTime 내림차순으로 정렬
      */
     public List<RoomCoursePoseRecordDTO> getPoseRecordDTOs(Long roomId, int roomOrderIndex) {
+        return roomResultCache.get(roomId, roomOrderIndex, () -> loadPoseRecordDTOs(roomId, roomOrderIndex));
+    }
+
+    private List<RoomCoursePoseRecordDTO> loadPoseRecordDTOs(Long roomId, int roomOrderIndex) {
         // 해당 roomId에 속하는 RoomCoursePose 중 입력된 roomOrderIndex를 가진 객체를 찾음
         Optional<RoomCoursePose> optionalCoursePose = roomCoursePoseRepository
                 .findByRoom_RoomId(roomId)
@@ -78,6 +76,8 @@ public class MultiService {
                         RoomCoursePoseRecordDTO.builder()
                                 .userName(record.getUser().getUserName())
                                 .poseUrl(record.getRecordImg())
+                                .poseThumbUrl(variantOrOriginal(record.getRecordThumbImg(), record))
+                                .poseMediumUrl(variantOrOriginal(record.getRecordMediumImg(), record))
                                 .poseTime(record.getPoseTime())
                                 .accuracy(record.getAccuracy())
                                 .ranking(record.getRanking())
@@ -85,4 +85,9 @@ public class MultiService {
                 )
                 .collect(Collectors.toList());
     }
+
+    // 변형본이 없는 기존 기록은 원본으로 대체
+    private static String variantOrOriginal(String variantUrl, PoseRecord record) {
+        return variantUrl != null ? variantUrl : record.getRecordImg();
+    }
 }
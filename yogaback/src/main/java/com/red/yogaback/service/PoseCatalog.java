@@ -0,0 +1,114 @@
+package com.red.yogaback.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.red.yogaback.dto.respond.PoseRes;
+import com.red.yogaback.repository.PoseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 요가 포즈 카탈로그: Pose 전체를 불변 스냅샷 + ETag로 보관 (Pose는 앱에서 수정하지 않으므로 관리자 reload 때만 다시 로드)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoseCatalog {
+
+    private final PoseRepository poseRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    public synchronized Snapshot reload() {
+        List<PoseRes> poses = poseRepository.findAllForCatalog();
+        Map<Long, PoseRes> byId = new LinkedHashMap<>();
+        Map<Long, String> etags = new LinkedHashMap<>();
+        for (PoseRes pose : poses) {
+            byId.put(pose.getPoseId(), pose);
+            etags.put(pose.getPoseId(), etagOf(pose));
+        }
+        Snapshot loaded = new Snapshot(List.copyOf(poses), Map.copyOf(byId), etagOf(poses), Map.copyOf(etags));
+        Snapshot previous = snapshot;
+        snapshot = loaded;
+        log.info("포즈 카탈로그 로드: {}개, etag = {} (이전 {})", poses.size(), loaded.etag,
+                previous == null ? null : previous.etag);
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            // 첫 요청 시 다시 시도
+            log.warn("포즈 카탈로그 사전 로드 실패", e);
+        }
+    }
+
+    // 직렬화 결과의 SHA-256 (강한 ETag 값)
+    private String etagOf(Object value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("포즈 카탈로그 해시 계산 실패", e);
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (목록과 ETag가 항상 같은 버전)
+     */
+    public static class Snapshot {
+        private final List<PoseRes> poses;
+        private final Map<Long, PoseRes> byId;
+        private final String etag;
+        private final Map<Long, String> poseEtags;
+
+        private Snapshot(List<PoseRes> poses, Map<Long, PoseRes> byId, String etag, Map<Long, String> poseEtags) {
+            this.poses = poses;
+            this.byId = byId;
+            this.etag = etag;
+            this.poseEtags = poseEtags;
+        }
+
+        // poseId 오름차순
+        public List<PoseRes> getPoses() {
+            return poses;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        // 없으면 null
+        public PoseRes getPose(Long poseId) {
+            return byId.get(poseId);
+        }
+
+        public String getPoseEtag(Long poseId) {
+            return poseEtags.get(poseId);
+        }
+    }
+}
@@ -1,26 +1,39 @@
 package com.red.yogaback.service;
 
+import com.red.yogaback.constant.ImageStatus;
+import com.red.yogaback.dto.projection.PoseHistoryRow;
+import com.red.yogaback.dto.request.FinalRoomResult;
+import com.red.yogaback.dto.request.PoseRecordBatchRequest;
 import com.red.yogaback.dto.request.PoseRecordRequest;
 import com.red.yogaback.dto.respond.PoseDetailHistoryRes;
 import com.red.yogaback.dto.respond.PoseDetailHistoryRes.HistoryItem;
 import com.red.yogaback.dto.respond.PoseHistorySummaryRes;
 import com.red.yogaback.dto.respond.PoseRecordRes;
+import com.red.yogaback.event.PoseBatchRecorded;
+import com.red.yogaback.event.PoseRecorded;
+import com.red.yogaback.event.RecordImageUploadRequested;
+import com.red.yogaback.event.StreakChanged;
 import com.red.yogaback.model.Pose;
 import com.red.yogaback.model.PoseRecord;
 import com.red.yogaback.model.Room;
 import com.red.yogaback.model.User;
+import com.red.yogaback.model.UserPoseStats;
 import com.red.yogaback.model.UserRecord;
 import com.red.yogaback.repository.PoseRecordRepository;
 import com.red.yogaback.repository.PoseRepository;
 import com.red.yogaback.repository.RoomRecordRepository; // 사용되지 않음
+import com.red.yogaback.repository.UserPoseStatsRepository;
 import com.red.yogaback.repository.UserRecordRepository;
 import com.red.yogaback.repository.UserRepository;
 import com.red.yogaback.repository.RoomRepository;
 import com.red.yogaback.security.SecurityUtil;
-import com.red.yogaback.service.S3FileStorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Instant;
@@ -39,8 +52,12 @@ public class PoseRecordService {
     private final UserRepository userRepository;
     private final UserRecordRepository userRecordRepository;
     private final RoomRepository roomRepository; // 새로 주입받음
-    private final S3FileStorageService s3FileStorageService;
-    private final BadgeService badgeService;
+    private final RecordImageUploader recordImageUploader;
+    private final UserPoseStatsRepository userPoseStatsRepository;
+    private final UserPoseStatsWriter userPoseStatsWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_BATCH_SIZE = 50;
 
     /**
      * [POST] /api/yoga/history/{poseId}
@@ -50,12 +67,14 @@ public class PoseRecordService {
      * 1. 클라이언트가 전달한 PoseRecordRequest 내 roomId 값을 먼저 확인하여,
      *    값이 있으면 해당 room을 조회해 연결하고, 없으면 (또는 null이면) room 필드는 null로 설정합니다.
      * 2. room이 null인 경우 솔로 모드로 간주하여 ranking은 강제로 null로 처리합니다.
+     * 3. 사진은 기록을 PENDING 상태로 먼저 저장한 뒤 커밋 후 비동기로 업로드합니다. (RecordImageUploader)
      *
      * @param poseId  포즈 ID
      * @param request PoseRecord 요청 DTO (accuracy, ranking, poseTime, roomId)
      * @param recordImg 업로드된 이미지 파일 (선택)
      * @return 생성된 PoseRecord 엔티티
      */
+    @Transactional
     public PoseRecord createPoseRecord(Long poseId, PoseRecordRequest request, MultipartFile recordImg) {
         Long userId = SecurityUtil.getCurrentMemberId();
         User user = userRepository.findById(userId)
@@ -74,10 +93,8 @@ public class PoseRecordService {
         // 솔로 모드일 경우 ranking은 무조건 null 처리
         Integer ranking = (room == null) ? null : request.getRanking();
 
-        String recordImgUrl = null;
-        if (recordImg != null && !recordImg.isEmpty()) {
-            recordImgUrl = s3FileStorageService.storeFile(recordImg);
-        }
+        // 사진은 커밋 후 비동기로 업로드되고, recordImg는 업로드 완료 시 채워짐
+        boolean hasImage = recordImg != null && !recordImg.isEmpty();
 
         PoseRecord poseRecord = PoseRecord.builder()
                 .user(user)
@@ -86,10 +103,19 @@ public class PoseRecordService {
                 .accuracy(request.getAccuracy())
                 .ranking(ranking)
                 .poseTime(request.getPoseTime())
-                .recordImg(recordImgUrl)
+                .imageStatus(hasImage ? ImageStatus.PENDING : ImageStatus.NONE)
                 .createdAt(System.currentTimeMillis())
                 .build();
         PoseRecord savedPoseRecord = poseRecordRepository.save(poseRecord);
+        if (hasImage) {
+            RecordImageUploadRequested upload = recordImageUploader.spool(savedPoseRecord.getPoseRecordId(),
+                    room != null ? room.getRoomId() : null, recordImg);
+            eventPublisher.publishEvent(upload);
+        }
+
+        // 포즈별 최고 기록 집계 갱신 (같은 트랜잭션)
+        userPoseStatsWriter.record(userId, poseId, savedPoseRecord.getAccuracy(), savedPoseRecord.getPoseTime(),
+                ranking != null && ranking == 1, savedPoseRecord.getCreatedAt());
 
         // 새 PoseRecord의 생성 시각을 LocalDate로 변환하여 운동 기록 날짜로 사용
         Instant instant = Instant.ofEpochMilli(savedPoseRecord.getCreatedAt());
@@ -99,71 +125,243 @@ public class PoseRecordService {
         UserRecord userRecord = userRecordRepository.findByUser(user)
                 .orElseThrow(() -> new RuntimeException("UserRecord not found for userId=" + userId));
 
+        boolean streakChanged = applyExerciseDate(userRecord, newExerciseDate);
+        userRecordRepository.save(userRecord);
+
+        // 배지 업데이트: 변경된 값만 이벤트로 전달 (BadgeEngine)
+        if (streakChanged) {
+            eventPublisher.publishEvent(new StreakChanged(userId, userRecord.getExDays(), userRecord.getExConDays()));
+        }
+        eventPublisher.publishEvent(new PoseRecorded(userId, savedPoseRecord.getPoseRecordId(), poseId,
+                room != null ? room.getRoomId() : null, savedPoseRecord.getAccuracy(), savedPoseRecord.getPoseTime()));
+
+        return savedPoseRecord;
+    }
+
+    /**
+     * [POST] /api/yoga/history/batch
+     * - 코스 한 번의 포즈 기록을 한 번에 저장합니다.
+     * - PoseRecord는 Hibernate 배치 INSERT, UserPoseStats는 JDBC 배치로 쓰고, UserRecord 운동 일자와 배지는 한 번만 갱신합니다.
+     * - 사진은 단건 저장과 같이 PENDING으로 저장한 뒤 커밋 후 비동기로 업로드합니다.
+     *
+     * @param recordImgs 사진 목록 (각 기록의 imageIndex로 참조, 선택)
+     */
+    @Transactional
+    public List<PoseRecordRes> createPoseRecords(PoseRecordBatchRequest request, List<MultipartFile> recordImgs) {
+        Long userId = SecurityUtil.getCurrentMemberId();
+        List<PoseRecordBatchRequest.Item> items = request.getRecords();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("저장할 기록이 없습니다.");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 저장할 수 있는 기록은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        List<MultipartFile> images = recordImgs == null ? List.of() : recordImgs;
+
+        Set<Long> poseIds = items.stream().map(PoseRecordBatchRequest.Item::getPoseId).collect(Collectors.toSet());
+        Map<Long, Pose> poses = poseRepository.findMapByIds(poseIds);
+        for (Long poseId : poseIds) {
+            if (!poses.containsKey(poseId)) {
+                throw new RuntimeException("해당 포즈를 찾을 수 없습니다. poseId=" + poseId);
+            }
+        }
+        Long roomId = request.getRoomId();
+        Room room = null;
+        if (roomId != null) {
+            room = roomRepository.findById(roomId)
+                    .orElseThrow(() -> new RuntimeException("Room not found with id: " + roomId));
+        }
+        User user = userRepository.getReferenceById(userId);
+
+        long createdAt = System.currentTimeMillis();
+        List<PoseRecord> poseRecords = new ArrayList<>(items.size());
+        List<Object[]> statsArgs = new ArrayList<>(items.size());
+        Float maxAccuracy = null;
+        Float maxPoseTime = null;
+        for (PoseRecordBatchRequest.Item item : items) {
+            MultipartFile image = imageOf(item, images);
+            boolean hasImage = image != null && !image.isEmpty();
+            // 솔로 모드일 경우 ranking은 무조건 null 처리
+            Integer ranking = (room == null) ? null : item.getRanking();
+            poseRecords.add(PoseRecord.builder()
+                    .user(user)
+                    .room(room)
+                    .pose(poses.get(item.getPoseId()))
+                    .accuracy(item.getAccuracy())
+                    .ranking(ranking)
+                    .poseTime(item.getPoseTime())
+                    .imageStatus(hasImage ? ImageStatus.PENDING : ImageStatus.NONE)
+                    .createdAt(createdAt)
+                    .build());
+            statsArgs.add(new Object[]{userId, item.getPoseId(), item.getAccuracy(), item.getPoseTime(),
+                    ranking != null && ranking == 1 ? 1 : 0, createdAt});
+            maxAccuracy = maxOf(maxAccuracy, item.getAccuracy());
+            maxPoseTime = maxOf(maxPoseTime, item.getPoseTime());
+        }
+
+        // PoseRecord는 테이블 기반 id라 hibernate.jdbc.batch_size 단위로 배치 INSERT됨
+        List<PoseRecord> saved = poseRecordRepository.saveAll(poseRecords);
+        List<PoseRecordRes> result = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            PoseRecord poseRecord = saved.get(i);
+            result.add(PoseRecordRes.fromEntity(poseRecord));
+            MultipartFile image = imageOf(items.get(i), images);
+            if (image != null && !image.isEmpty()) {
+                eventPublisher.publishEvent(recordImageUploader.spool(poseRecord.getPoseRecordId(), roomId, image));
+            }
+        }
+
+        // 포즈별 최고 기록 집계 갱신 (같은 트랜잭션, 배치)
+        userPoseStatsWriter.recordAll(statsArgs);
+
+        // 운동 일자는 세션당 한 번만 갱신
+        UserRecord userRecord = userRecordRepository.findByUser_UserId(userId)
+                .orElseThrow(() -> new RuntimeException("UserRecord not found for userId=" + userId));
+        LocalDate exerciseDate = Instant.ofEpochMilli(createdAt).atZone(ZoneId.systemDefault()).toLocalDate();
+        if (applyExerciseDate(userRecord, exerciseDate)) {
+            userRecordRepository.save(userRecord);
+            eventPublisher.publishEvent(new StreakChanged(userId, userRecord.getExDays(), userRecord.getExConDays()));
+        }
+        eventPublisher.publishEvent(new PoseBatchRecorded(userId, roomId, items.size(), maxAccuracy, maxPoseTime));
+
+        return result;
+    }
+
+    /**
+     * 서버가 집계한 멀티 게임의 라운드 기록을 참가자 전원분 한 번에 저장합니다. (GameSessionService)
+     * - PoseRecord는 한 번의 saveAll, UserPoseStats는 한 번의 JDBC 배치, UserRecord는 한 번의 IN 조회로 처리합니다.
+     * - 참가자마다 운동 일자/배지 이벤트는 배치 저장(createPoseRecords)과 같은 규칙으로 발행합니다.
+     */
+    @Transactional
+    public int createRoomRoundRecords(Long roomId, List<FinalRoomResult> results) {
+        Set<Long> poseIds = results.stream()
+                .flatMap(result -> result.getRounds().stream())
+                .map(PoseRecordBatchRequest.Item::getPoseId)
+                .collect(Collectors.toSet());
+        if (poseIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Pose> poses = poseRepository.findMapByIds(poseIds);
+        Room room = roomRepository.getReferenceById(roomId);
+
+        long createdAt = System.currentTimeMillis();
+        List<PoseRecord> poseRecords = new ArrayList<>();
+        List<Object[]> statsArgs = new ArrayList<>();
+        for (FinalRoomResult result : results) {
+            User user = userRepository.getReferenceById(result.getUserId());
+            for (PoseRecordBatchRequest.Item item : result.getRounds()) {
+                Pose pose = poses.get(item.getPoseId());
+                if (pose == null) {
+                    continue;
+                }
+                poseRecords.add(PoseRecord.builder()
+                        .user(user)
+                        .room(room)
+                        .pose(pose)
+                        .accuracy(item.getAccuracy())
+                        .ranking(item.getRanking())
+                        .poseTime(item.getPoseTime())
+                        .imageStatus(ImageStatus.NONE)
+                        .createdAt(createdAt)
+                        .build());
+                statsArgs.add(new Object[]{result.getUserId(), item.getPoseId(), item.getAccuracy(), item.getPoseTime(),
+                        item.getRanking() != null && item.getRanking() == 1 ? 1 : 0, createdAt});
+            }
+        }
+        poseRecordRepository.saveAll(poseRecords);
+        userPoseStatsWriter.recordAll(statsArgs);
+
+        LocalDate exerciseDate = Instant.ofEpochMilli(createdAt).atZone(ZoneId.systemDefault()).toLocalDate();
+        Map<Long, UserRecord> userRecords = userRecordRepository.findByUser_UserIdIn(
+                        results.stream().map(FinalRoomResult::getUserId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(userRecord -> userRecord.getUser().getUserId(), userRecord -> userRecord));
+        for (FinalRoomResult result : results) {
+            Long userId = result.getUserId();
+            UserRecord userRecord = userRecords.get(userId);
+            if (userRecord != null && applyExerciseDate(userRecord, exerciseDate)) {
+                eventPublisher.publishEvent(new StreakChanged(userId, userRecord.getExDays(), userRecord.getExConDays()));
+            }
+            Float maxAccuracy = null;
+            Float maxPoseTime = null;
+            for (PoseRecordBatchRequest.Item item : result.getRounds()) {
+                maxAccuracy = maxOf(maxAccuracy, item.getAccuracy());
+                maxPoseTime = maxOf(maxPoseTime, item.getPoseTime());
+            }
+            if (!result.getRounds().isEmpty()) {
+                eventPublisher.publishEvent(new PoseBatchRecorded(userId, roomId, result.getRounds().size(),
+                        maxAccuracy, maxPoseTime));
+            }
+        }
+        return poseRecords.size();
+    }
+
+    private static MultipartFile imageOf(PoseRecordBatchRequest.Item item, List<MultipartFile> images) {
+        Integer index = item.getImageIndex();
+        if (index == null) {
+            return null;
+        }
+        if (index < 0 || index >= images.size()) {
+            throw new IllegalArgumentException("잘못된 imageIndex입니다. imageIndex=" + index);
+        }
+        return images.get(index);
+    }
+
+    private static Float maxOf(Float current, Float value) {
+        if (value == null) {
+            return current;
+        }
+        return current == null ? value : Math.max(current, value);
+    }
+
+    /**
+     * 새 운동 일자를 UserRecord에 반영합니다.
+     * @return 운동 일수/연속 일수가 바뀌었으면 true (같은 날 이미 기록이 있으면 false)
+     */
+    private static boolean applyExerciseDate(UserRecord userRecord, LocalDate newExerciseDate) {
         if (userRecord.getCurrentExerciseDate() == null) {
             userRecord.setCurrentExerciseDate(newExerciseDate);
             userRecord.setExDays(1L);
             userRecord.setExConDays(1L);
-        } else if (userRecord.getCurrentExerciseDate().equals(newExerciseDate)) {
+            return true;
+        }
+        if (userRecord.getCurrentExerciseDate().equals(newExerciseDate)) {
             // 이미 오늘 운동 기록이 있다면 아무 작업도 하지 않습니다.
+            return false;
+        }
+        userRecord.setPreviousExerciseDate(userRecord.getCurrentExerciseDate());
+        userRecord.setCurrentExerciseDate(newExerciseDate);
+        userRecord.setExDays(userRecord.getExDays() + 1);
+        if (userRecord.getPreviousExerciseDate() != null &&
+                userRecord.getPreviousExerciseDate().plusDays(1).equals(newExerciseDate)) {
+            userRecord.setExConDays(userRecord.getExConDays() + 1);
         } else {
-            userRecord.setPreviousExerciseDate(userRecord.getCurrentExerciseDate());
-            userRecord.setCurrentExerciseDate(newExerciseDate);
-            userRecord.setExDays(userRecord.getExDays() + 1);
-            if (userRecord.getPreviousExerciseDate() != null &&
-                    userRecord.getPreviousExerciseDate().plusDays(1).equals(newExerciseDate)) {
-                userRecord.setExConDays(userRecord.getExConDays() + 1);
-            } else {
-                userRecord.setExConDays(1L);
-            }
+            userRecord.setExConDays(1L);
         }
-        userRecordRepository.save(userRecord);
-
-        // 배지 업데이트 (필요 시)
-        badgeService.updateUserRecordAndAssignBadges(user);
-
-        return savedPoseRecord;
+        return true;
     }
 
-    // 아래의 getAllPoseRecordsSummary()와 getPoseDetailHistory() 메서드는 기존 코드와 동일합니다.
+    /**
+     * [GET] /api/yoga/history
+     * - 포즈별 최고 기록은 UserPoseStats에서 한 번에 조회합니다. (기록 수와 무관)
+     */
+    @Transactional(readOnly = true)
     public List<PoseHistorySummaryRes> getAllPoseRecordsSummary() {
         Long userId = SecurityUtil.getCurrentMemberId();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다. userId=" + userId));
 
         List<Pose> allPoses = poseRepository.findAll(Sort.by("poseId").ascending());
-        List<PoseRecord> userRecords = poseRecordRepository.findByUser(user);
-
-        // poseId를 key로 그룹화
-        Map<Long, List<PoseRecord>> recordMap = userRecords.stream()
-                .collect(Collectors.groupingBy(r -> r.getPose().getPoseId()));
+        Map<Long, UserPoseStats> statsMap = userPoseStatsRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(UserPoseStats::getPoseId, stats -> stats));
 
         List<PoseHistorySummaryRes> result = new ArrayList<>();
         for (Pose pose : allPoses) {
-            List<PoseRecord> recordsForPose = recordMap.getOrDefault(pose.getPoseId(), Collections.emptyList());
-
-            float bestAccuracy = 0f;
-            float bestTime = 0f;
-
-            if (!recordsForPose.isEmpty()) {
-                bestAccuracy = recordsForPose.stream()
-                        .filter(r -> r.getAccuracy() != null)
-                        .map(PoseRecord::getAccuracy)
-                        .max(Float::compareTo)
-                        .orElse(0f);
-
-                bestTime = recordsForPose.stream()
-                        .filter(r -> r.getPoseTime() != null)
-                        .map(PoseRecord::getPoseTime)
-                        .max(Float::compareTo)
-                        .orElse(0f);
-            }
+            UserPoseStats stats = statsMap.get(pose.getPoseId());
 
             PoseHistorySummaryRes summary = PoseHistorySummaryRes.builder()
                     .poseId(pose.getPoseId())
                     .poseName(pose.getPoseName())
                     .poseImg(pose.getPoseImg())
-                    .bestAccuracy(bestAccuracy)
-                    .bestTime(bestTime)
+                    .bestAccuracy(bestOf(stats == null ? null : stats.getBestAccuracy()))
+                    .bestTime(bestOf(stats == null ? null : stats.getBestTime()))
                     .build();
 
             result.add(summary);
@@ -171,42 +369,53 @@ public class PoseRecordService {
         return result;
     }
 
-    public PoseDetailHistoryRes getPoseDetailHistory(Long poseId) {
+    /**
+     * [GET] /api/yoga/history/{poseId}
+     * - histories는 (createdAt, poseRecordId) 커서 기준으로 size개씩 최신순 반환합니다.
+     *   size가 null이면 커서 이후 기록을 모두 반환합니다 (nextCursor 없음).
+     * - 최고 기록/우승 횟수는 페이지와 무관하게 UserPoseStats 기준입니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public PoseDetailHistoryRes getPoseDetailHistory(Long poseId, String cursor, Integer size) {
         Long userId = SecurityUtil.getCurrentMemberId();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다. userId=" + userId));
 
         Pose pose = poseRepository.findById(poseId)
                 .orElseThrow(() -> new RuntimeException("해당 포즈를 찾을 수 없습니다. poseId=" + poseId));
 
-        List<PoseRecord> recordsForPose = poseRecordRepository.findByUserAndPose_PoseIdOrderByCreatedAtDesc(user, poseId);
-
-        float bestAccuracy = 0f;
-        float bestTime = 0f;
-        int winCount = 0;
-
-        if (!recordsForPose.isEmpty()) {
-            bestAccuracy = recordsForPose.stream()
-                    .filter(r -> r.getAccuracy() != null)
-                    .map(PoseRecord::getAccuracy)
-                    .max(Float::compareTo)
-                    .orElse(0f);
-
-            bestTime = recordsForPose.stream()
-                    .filter(r -> r.getPoseTime() != null)
-                    .map(PoseRecord::getPoseTime)
-                    .max(Float::compareTo)
-                    .orElse(0f);
+        long cursorCreatedAt = Long.MAX_VALUE;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_");
+            try {
+                cursorCreatedAt = Long.parseLong(parts[0]);
+                cursorId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 cursor 형식입니다. cursor=" + cursor);
+            }
+        }
 
-            winCount = (int) recordsForPose.stream()
-                    .filter(r -> r.getRanking() != null && r.getRanking() == 1)
-                    .count();
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<PoseHistoryRow> rows = poseRecordRepository.findHistoryPage(userId, poseId, cursorCreatedAt, cursorId,
+                size == null ? Pageable.unpaged() : PageRequest.of(0, size + 1));
+        String nextCursor = null;
+        if (size != null && rows.size() > size) {
+            rows = rows.subList(0, size);
+            PoseHistoryRow last = rows.get(size - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getPoseRecordId();
         }
 
-        List<HistoryItem> histories = recordsForPose.stream()
+        // 최고 기록/우승 횟수는 집계 테이블 기준
+        UserPoseStats stats = userPoseStatsRepository.findByUserIdAndPoseId(userId, poseId).orElse(null);
+        float bestAccuracy = bestOf(stats == null ? null : stats.getBestAccuracy());
+        float bestTime = bestOf(stats == null ? null : stats.getBestTime());
+        int winCount = stats == null ? 0 : stats.getWinCount();
+
+        List<HistoryItem> histories = rows.stream()
                 .map(r -> HistoryItem.builder()
                         .historyId(r.getPoseRecordId())
-                        .userId(r.getUser().getUserId())
+                        .userId(r.getUserId())
                         .accuracy(r.getAccuracy())
                         .ranking(r.getRanking())
                         .poseTime(r.getPoseTime())
@@ -223,6 +432,11 @@ public class PoseRecordService {
                 .bestTime(bestTime)
                 .winCount(winCount)
                 .histories(histories)
+                .nextCursor(nextCursor)
                 .build();
     }
+
+    private static float bestOf(Float value) {
+        return value == null ? 0f : value;
+    }
 }
@@ -1,42 +1,40 @@
 package com.red.yogaback.service;
 
 import com.red.yogaback.dto.respond.PoseRes;
-import com.red.yogaback.model.Pose;
-import com.red.yogaback.repository.PoseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PoseService {
 
-    private final PoseRepository poseRepository;
+    private final PoseCatalog poseCatalog;
 
     /**
-     * 모든 요가 포즈 목록을 조회합니다.
+     * 모든 요가 포즈 목록을 조회합니다. (메모리 카탈로그)
      * @return 요가 포즈 DTO 목록
      */
     public List<PoseRes> getAllPoses() {
-        List<Pose> poses = poseRepository.findAll();
-
-        // 엔티티 목록을 DTO 목록으로 변환
-        return poses.stream()
-                .map(PoseRes::fromEntity)
-                .collect(Collectors.toList());
+        return poseCatalog.current().getPoses();
     }
 
     /**
-     * 특정 ID의 요가 포즈를 조회합니다.
+     * 특정 ID의 요가 포즈를 조회합니다. (메모리 카탈로그)
      * @param poseId 조회할 포즈 ID
      * @return 요가 포즈 DTO
      */
     public PoseRes getPoseById(Long poseId) {
-        Pose pose = poseRepository.findById(poseId)
-                .orElseThrow(() -> new RuntimeException("해당 ID의 포즈를 찾을 수 없습니다: " + poseId));
+        PoseRes pose = poseCatalog.current().getPose(poseId);
+        if (pose == null) {
+            throw new RuntimeException("해당 ID의 포즈를 찾을 수 없습니다: " + poseId);
+        }
+        return pose;
+    }
 
-        return PoseRes.fromEntity(pose);
+    // 목록과 ETag를 같은 버전으로 읽기 위한 스냅샷
+    public PoseCatalog.Snapshot getCatalog() {
+        return poseCatalog.current();
     }
 }
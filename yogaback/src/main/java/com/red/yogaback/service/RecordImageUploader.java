@@ -0,0 +1,298 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.ImageStatus;
+import com.red.yogaback.dto.projection.PendingImageRow;
+import com.red.yogaback.event.RecordImageUploadRequested;
+import com.red.yogaback.global.DaemonThreads;
+import com.red.yogaback.repository.PoseRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+
+// 기록 사진 비동기 업로드: 요청 스레드는 임시 파일로만 옮기고, 커밋 후 업로드 풀에서 S3로 올림
+@Slf4j
+@Component
+public class RecordImageUploader {
+
+    private static final String DEFAULT_CONTENT_TYPE = "image/jpeg";
+
+    private final S3FileStorageService s3FileStorageService;
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final PoseRecordRepository poseRecordRepository;
+    private final RoomResultCache roomResultCache;
+    private final Path spoolDir;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long staleAfterMillis;
+    private final int sweepBatchSize;
+    private final long shutdownTimeoutMillis;
+
+    private final ThreadPoolExecutor uploadPool;
+    private final ScheduledExecutorService retryScheduler;
+    // 풀이 가득 차 미뤄 둔 업로드 (sweep에서 다시 넣음)
+    private final Queue<Deferred> deferred = new ConcurrentLinkedQueue<>();
+    // 이 인스턴스가 업로드를 맡고 있는 기록 (sweep이 중복으로 잡지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter uploadedCounter;
+    private final Counter retriedCounter;
+    private final Counter deferredCounter;
+    private final Counter failedCounter;
+
+    public RecordImageUploader(S3FileStorageService s3FileStorageService,
+                               ImageVariantProcessor imageVariantProcessor,
+                               PoseRecordRepository poseRecordRepository,
+                               RoomResultCache roomResultCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${image.upload.spool-dir:${java.io.tmpdir}/yogayo-upload}") String spoolDir,
+                               @Value("${image.upload.threads:4}") int threads,
+                               @Value("${image.upload.queue-capacity:200}") int queueCapacity,
+                               @Value("${image.upload.max-attempts:3}") int maxAttempts,
+                               @Value("${image.upload.retry-backoff-millis:1000}") long retryBackoffMillis,
+                               @Value("${image.upload.stale-after-ms:600000}") long staleAfterMillis,
+                               @Value("${image.upload.sweep-batch-size:100}") int sweepBatchSize,
+                               @Value("${image.upload.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) throws IOException {
+        this.s3FileStorageService = s3FileStorageService;
+        this.imageVariantProcessor = imageVariantProcessor;
+        this.poseRecordRepository = poseRecordRepository;
+        this.roomResultCache = roomResultCache;
+        this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.staleAfterMillis = staleAfterMillis;
+        this.sweepBatchSize = sweepBatchSize;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+        // 대기열이 가득 차면 호출 스레드에서 올리지 않고 거절 -> submit()에서 미뤄 둠
+        this.uploadPool = DaemonThreads.pool("image-upload", threads, new ArrayBlockingQueue<>(queueCapacity));
+        this.retryScheduler = DaemonThreads.scheduled("image-upload-retry");
+
+        Gauge.builder("image.upload.queue.depth", uploadPool, pool -> pool.getQueue().size())
+                .description("업로드 대기 중인 사진 수")
+                .register(meterRegistry);
+        Gauge.builder("image.upload.deferred", deferred, Queue::size)
+                .description("업로드 풀이 가득 차 미뤄 둔 사진 수")
+                .register(meterRegistry);
+        this.uploadedCounter = Counter.builder("image.upload.result").tag("result", "uploaded").register(meterRegistry);
+        this.retriedCounter = Counter.builder("image.upload.result").tag("result", "retried").register(meterRegistry);
+        this.deferredCounter = Counter.builder("image.upload.result").tag("result", "deferred").register(meterRegistry);
+        this.failedCounter = Counter.builder("image.upload.result").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * 업로드된 사진을 임시 파일로 옮깁니다. (힙에 전체를 올리지 않음)
+     * 파일 이름에 poseRecordId를 넣어 두어 재시작 후에도 sweep이 찾을 수 있습니다.
+     */
+    public RecordImageUploadRequested spool(Long poseRecordId, Long roomId, MultipartFile file) {
+        try {
+            Path target = Files.createTempFile(spoolDir, spoolPrefix(poseRecordId), ".upload");
+            file.transferTo(target);
+            return new RecordImageUploadRequested(poseRecordId, roomId, target,
+                    s3FileStorageService.newObjectKey(file.getOriginalFilename()), file.getContentType());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to spool file", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(RecordImageUploadRequested request) {
+        inFlight.add(request.getPoseRecordId());
+        submit(request, 1);
+    }
+
+    // 기록 저장이 롤백되면 임시 파일만 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onRolledBack(RecordImageUploadRequested request) {
+        deleteQuietly(request.getFile());
+    }
+
+    // 어떤 스레드에서 호출해도 막히지 않음 (풀이 가득 차면 미뤄 두고 바로 반환)
+    private void submit(RecordImageUploadRequested request, int attempt) {
+        try {
+            uploadPool.execute(() -> upload(request, attempt));
+        } catch (RejectedExecutionException e) {
+            deferred.add(new Deferred(request, attempt));
+            deferredCounter.increment();
+            log.info("업로드 풀 포화로 사진 업로드를 미룸: poseRecordId = {}", request.getPoseRecordId());
+        }
+    }
+
+    /**
+     * 미뤄 둔 업로드를 다시 넣고, 오래 PENDING으로 남은 기록(재시작 등으로 끊긴 업로드)을 다시 올립니다.
+     * 임시 파일이 남아 있지 않으면 더 올릴 수 없으므로 FAILED로 바꿉니다.
+     */
+    @Scheduled(fixedDelayString = "${image.upload.sweep-interval-ms:30000}")
+    public void sweep() {
+        for (int i = deferred.size(); i > 0; i--) {
+            Deferred next = deferred.poll();
+            if (next == null) {
+                break;
+            }
+            submit(next.request, next.attempt);
+        }
+        if (!deferred.isEmpty()) {
+            // 아직 포화 상태면 DB에서 더 가져오지 않음
+            return;
+        }
+
+        long before = System.currentTimeMillis() - staleAfterMillis;
+        for (PendingImageRow row : poseRecordRepository.findStaleImages(
+                ImageStatus.PENDING, before, PageRequest.of(0, sweepBatchSize))) {
+            Long poseRecordId = row.getPoseRecordId();
+            if (!inFlight.add(poseRecordId)) {
+                continue;
+            }
+            Path spooled = findSpooled(poseRecordId);
+            if (spooled == null) {
+                inFlight.remove(poseRecordId);
+                if (poseRecordRepository.updateImageStatus(poseRecordId, ImageStatus.PENDING, ImageStatus.FAILED) > 0) {
+                    failedCounter.increment();
+                    log.warn("임시 파일이 없어 사진 업로드 실패 처리: poseRecordId = {}", poseRecordId);
+                }
+                continue;
+            }
+            log.info("끊긴 사진 업로드 재시도: poseRecordId = {}", poseRecordId);
+            submit(new RecordImageUploadRequested(poseRecordId, row.getRoomId(), spooled,
+                    s3FileStorageService.newObjectKey(null), contentTypeOf(spooled)), 1);
+        }
+    }
+
+    private void upload(RecordImageUploadRequested request, int attempt) {
+        ImageVariantProcessor.Variants variants = createVariants(request);
+        try {
+            String key = request.getObjectKey();
+            String url = s3FileStorageService.storeFile(request.getFile(), key, request.getContentType());
+            String thumbUrl = null;
+            String mediumUrl = null;
+            if (variants != null) {
+                thumbUrl = s3FileStorageService.storeFile(variants.getThumb(), key + "_thumb.jpg",
+                        ImageVariantProcessor.VARIANT_CONTENT_TYPE);
+                if (variants.getMedium() != null) {
+                    mediumUrl = s3FileStorageService.storeFile(variants.getMedium(), key + "_medium.jpg",
+                            ImageVariantProcessor.VARIANT_CONTENT_TYPE);
+                }
+            }
+            poseRecordRepository.updateRecordImages(request.getPoseRecordId(), url, thumbUrl, mediumUrl,
+                    variants == null ? null : variants.getWidth(),
+                    variants == null ? null : variants.getHeight(),
+                    Files.size(request.getFile()), ImageStatus.UPLOADED);
+            if (request.getRoomId() != null) {
+                // 결과 화면 캐시에 사진 URL이 반영되도록
+                roomResultCache.evict(request.getRoomId());
+            }
+            uploadedCounter.increment();
+            finish(request);
+        } catch (Exception e) {
+            if (attempt < maxAttempts) {
+                long delay = retryBackoffMillis << (attempt - 1);
+                retriedCounter.increment();
+                log.warn("기록 사진 업로드 실패, {}ms 후 재시도 ({}/{}): poseRecordId = {}",
+                        delay, attempt, maxAttempts, request.getPoseRecordId(), e);
+                retryScheduler.schedule(() -> submit(request, attempt + 1), delay, TimeUnit.MILLISECONDS);
+                return;
+            }
+            failedCounter.increment();
+            log.error("기록 사진 업로드 최종 실패: poseRecordId = {}", request.getPoseRecordId(), e);
+            try {
+                poseRecordRepository.updateRecordImage(request.getPoseRecordId(), null, ImageStatus.FAILED);
+            } catch (RuntimeException updateError) {
+                log.error("업로드 실패 상태 반영 실패: poseRecordId = {}", request.getPoseRecordId(), updateError);
+            }
+            finish(request);
+        } finally {
+            if (variants != null) {
+                deleteQuietly(variants.getThumb());
+                if (variants.getMedium() != null) {
+                    deleteQuietly(variants.getMedium());
+                }
+            }
+        }
+    }
+
+    private void finish(RecordImageUploadRequested request) {
+        deleteQuietly(request.getFile());
+        inFlight.remove(request.getPoseRecordId());
+    }
+
+    // 변형본 생성 실패는 업로드를 막지 않음 (원본만 올림)
+    private ImageVariantProcessor.Variants createVariants(RecordImageUploadRequested request) {
+        try {
+            return imageVariantProcessor.process(request.getFile());
+        } catch (IOException | RuntimeException e) {
+            log.warn("기록 사진 변형본 생성 실패: poseRecordId = {}", request.getPoseRecordId(), e);
+            return null;
+        }
+    }
+
+    private static String spoolPrefix(Long poseRecordId) {
+        return "record-" + poseRecordId + "-";
+    }
+
+    private Path findSpooled(Long poseRecordId) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir, spoolPrefix(poseRecordId) + "*.upload")) {
+            Iterator<Path> it = files.iterator();
+            return it.hasNext() ? it.next() : null;
+        } catch (IOException e) {
+            log.warn("임시 파일 조회 실패: poseRecordId = {}", poseRecordId, e);
+            return null;
+        }
+    }
+
+    // 재시작 후에는 요청의 Content-Type을 알 수 없으므로 파일 시그니처로 추정
+    private static String contentTypeOf(Path file) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            String guessed = URLConnection.guessContentTypeFromStream(in);
+            return guessed != null ? guessed : DEFAULT_CONTENT_TYPE;
+        } catch (IOException e) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    // 진행 중인 업로드는 shutdown-timeout-ms까지 기다림. 못 끝낸 기록은 임시 파일이 남아 다음 기동 후 sweep이 이어서 올림
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        if (!DaemonThreads.shutdown(uploadPool, shutdownTimeoutMillis)) {
+            log.warn("종료 시간 안에 끝나지 않은 사진 업로드가 있음: {}건", inFlight.size());
+        }
+    }
+
+    private static class Deferred {
+        private final RecordImageUploadRequested request;
+        private final int attempt;
+
+        private Deferred(RecordImageUploadRequested request, int attempt) {
+            this.request = request;
+            this.attempt = attempt;
+        }
+    }
+}
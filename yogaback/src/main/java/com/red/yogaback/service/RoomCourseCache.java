@@ -0,0 +1,115 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.dto.request.RoomRequest;
+import com.red.yogaback.global.LruMap;
+import com.red.yogaback.model.Pose;
+import com.red.yogaback.model.RoomCoursePose;
+import com.red.yogaback.repository.RoomCoursePoseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 방 코스(포즈 목록) LRU + TTL 캐시 (없는 방은 RoomCoursePose + Pose 한 번의 쿼리로 로드)
+@Slf4j
+@Component
+public class RoomCourseCache {
+
+    private final RoomCoursePoseRepository roomCoursePoseRepository;
+    private final long ttlMillis;
+
+    // lock: this
+    private final LruMap<Long, Entry> entries;
+
+    public RoomCourseCache(RoomCoursePoseRepository roomCoursePoseRepository,
+                           @Value("${room.course-cache.max-size:1000}") int maxSize,
+                           @Value("${room.course-cache.ttl-minutes:180}") long ttlMinutes) {
+        this.roomCoursePoseRepository = roomCoursePoseRepository;
+        this.ttlMillis = ttlMinutes * 60 * 1000;
+        this.entries = new LruMap<>(maxSize);
+    }
+
+    // 방 생성 시 저장
+    public void put(Long roomId, List<RoomRequest.PoseDetail> poses) {
+        Entry entry = new Entry(List.copyOf(poses), System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            entries.put(roomId, entry);
+        }
+    }
+
+    public List<RoomRequest.PoseDetail> get(Long roomId) {
+        return getAll(List.of(roomId)).getOrDefault(roomId, List.of());
+    }
+
+    /**
+     * 여러 방의 코스를 한 번에 조회합니다. 캐시에 없는 방만 모아서 DB에서 한 번에 로드합니다.
+     */
+    public Map<Long, List<RoomRequest.PoseDetail>> getAll(Collection<Long> roomIds) {
+        Map<Long, List<RoomRequest.PoseDetail>> result = new HashMap<>();
+        List<Long> missed = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            for (Long roomId : roomIds) {
+                Entry entry = entries.get(roomId);
+                if (entry == null || entry.expiresAt < now) {
+                    missed.add(roomId);
+                } else {
+                    result.put(roomId, entry.poses);
+                }
+            }
+        }
+        if (missed.isEmpty()) {
+            return result;
+        }
+
+        // DB 조회는 락 밖에서 수행
+        Map<Long, List<RoomRequest.PoseDetail>> loaded = new HashMap<>();
+        for (RoomCoursePose roomCoursePose : roomCoursePoseRepository.findWithPoseByRoomIds(missed)) {
+            loaded.computeIfAbsent(roomCoursePose.getRoom().getRoomId(), id -> new ArrayList<>())
+                    .add(toPoseDetail(roomCoursePose));
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        synchronized (this) {
+            for (Long roomId : missed) {
+                List<RoomRequest.PoseDetail> poses = List.copyOf(loaded.getOrDefault(roomId, List.of()));
+                entries.put(roomId, new Entry(poses, expiresAt));
+                result.put(roomId, poses);
+            }
+        }
+        log.debug("방 코스 캐시 미스 로드: {}건", missed.size());
+        return result;
+    }
+
+    // 방 종료 시 제거
+    public void evict(Long roomId) {
+        synchronized (this) {
+            entries.remove(roomId);
+        }
+    }
+
+    private RoomRequest.PoseDetail toPoseDetail(RoomCoursePose roomCoursePose) {
+        Pose pose = roomCoursePose.getPose();
+        return RoomRequest.PoseDetail.builder()
+                .poseId(pose.getPoseId())
+                .poseName(pose.getPoseName())
+                .poseDescription(pose.getPoseDescription())
+                .poseImg(pose.getPoseImg())
+                .poseLevel(pose.getPoseLevel())
+                .poseVideo(pose.getPoseVideo())
+                .setPoseId(1)
+                .poseAnimation(pose.getPoseAnimation())
+                .userOrderIndex(roomCoursePose.getRoomOrderIndex())
+                .build();
+    }
+
+    private static class Entry {
+        private final List<RoomRequest.PoseDetail> poses;
+        private final long expiresAt;
+
+        private Entry(List<RoomRequest.PoseDetail> poses, long expiresAt) {
+            this.poses = poses;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
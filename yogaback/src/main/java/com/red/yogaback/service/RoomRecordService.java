@@ -1,19 +1,29 @@
 package com.red.yogaback.service;
 
+import com.red.yogaback.dto.request.FinalRoomResult;
 import com.red.yogaback.dto.request.RoomRecordRequest;
 import com.red.yogaback.dto.respond.RoomRecordResponse;
+import com.red.yogaback.event.RoomFinished;
 import com.red.yogaback.model.Room;
 import com.red.yogaback.model.RoomRecord;
 import com.red.yogaback.model.User;
-import com.red.yogaback.model.UserRecord;
 import com.red.yogaback.repository.RoomRecordRepository;
 import com.red.yogaback.repository.RoomRepository;
+import com.red.yogaback.repository.TableIdAllocator;
 import com.red.yogaback.repository.UserRecordRepository;
 import com.red.yogaback.repository.UserRepository;
 import com.red.yogaback.security.SecurityUtil;
-import com.red.yogaback.service.BadgeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,16 +33,23 @@ public class RoomRecordService {
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final UserRecordRepository userRecordRepository; // 추가됨
-    private final BadgeService badgeService;               // 추가됨
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TableIdAllocator tableIdAllocator;
+
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO room_record " +
+            "(room_record_id, user_id, room_id, total_ranking, total_score, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
 
     /**
      * 클라이언트로부터 전달받은 최종 방 기록 정보를 기반으로 RoomRecord를 저장합니다.
      * 최종 기록 저장 시 totalRanking 값이 1이면 해당 사용자의 UserRecord의 roomWin을 1 증가시키고,
-     * badgeService를 통해 배지 업데이트를 수행합니다.
+     * RoomFinished 이벤트로 배지 업데이트를 요청합니다.
      *
      * @param request 최종 기록 요청 DTO (roomId, totalRanking, totalScore)
      * @return 저장된 RoomRecord의 결과 DTO
      */
+    @Transactional
     public RoomRecordResponse saveFinalRoomRecord(RoomRecordRequest request) {
         // 현재 로그인한 사용자 ID를 가져옴
         Long userId = SecurityUtil.getCurrentMemberId();
@@ -52,28 +69,97 @@ public class RoomRecordService {
                 .createdAt(System.currentTimeMillis())
                 .build();
 
-        // RoomRecord 저장
-        RoomRecord savedRecord = roomRecordRepository.save(roomRecord);
+        // 게임 종료 시 서버가 이미 저장한 기록이 있으면 그대로 반환 (GameSessionService)
+        if (insertIfAbsent(List.of(roomRecord)).isEmpty()) {
+            RoomRecord existing = roomRecordRepository
+                    .findLockedByUserIdAndRoomId(userId, room.getRoomId())
+                    .orElseThrow(() -> new IllegalStateException("RoomRecord not found for userId=" + userId));
+            return toResponse(existing, user.getUserId(), room.getRoomId());
+        }
 
         // 최종 기록이 우승인 경우(totalRanking == 1) userRecord의 roomWin 값을 증가시킵니다.
-        if (savedRecord.getTotalRanking() != null && savedRecord.getTotalRanking() == 1) {
-            UserRecord userRecord = userRecordRepository.findByUser(user)
-                    .orElseThrow(() -> new RuntimeException("UserRecord not found for userId=" + userId));
-            userRecord.setRoomWin(userRecord.getRoomWin() + 1);
-            userRecordRepository.save(userRecord);
+        if (roomRecord.getTotalRanking() != null && roomRecord.getTotalRanking() == 1) {
+            userRecordRepository.incrementRoomWin(List.of(userId));
         }
 
-        // 배지 업데이트: roomWin 변경 후 뱃지 상태를 다시 검증합니다.
-        badgeService.updateUserRecordAndAssignBadges(user);
+        // 배지 업데이트: roomWin 변경 후 방 관련 배지만 다시 평가합니다.
+        eventPublisher.publishEvent(new RoomFinished(userId, room.getRoomId(), roomRecord.getTotalRanking()));
 
         // 결과 DTO 반환
+        return toResponse(roomRecord, user.getUserId(), room.getRoomId());
+    }
+
+    /**
+     * 서버가 집계한 게임 결과로 참가자 전원의 RoomRecord를 한 번에 저장합니다.
+     * - 이미 최종 기록을 올린 참가자는 건너뜁니다 (유니크 키 + INSERT IGNORE).
+     * - 우승자(totalRanking == 1)의 roomWin은 한 번의 UPDATE로 증가시키고, 참가자마다 RoomFinished를 발행합니다.
+     *
+     * @return 실제로 저장된 참가자 결과
+     */
+    @Transactional
+    public List<FinalRoomResult> saveGameResults(Long roomId, List<FinalRoomResult> results) {
+        if (results.isEmpty()) {
+            return results;
+        }
+        Room room = roomRepository.getReferenceById(roomId);
+        long createdAt = System.currentTimeMillis();
+        List<RoomRecord> roomRecords = new ArrayList<>(results.size());
+        for (FinalRoomResult result : results) {
+            roomRecords.add(RoomRecord.builder()
+                    .user(userRepository.getReferenceById(result.getUserId()))
+                    .room(room)
+                    .totalRanking(result.getTotalRanking())
+                    .totalScore(result.getTotalScore())
+                    .createdAt(createdAt)
+                    .build());
+        }
+        Set<Long> inserted = insertIfAbsent(roomRecords);
+        List<FinalRoomResult> saved = results.stream()
+                .filter(result -> inserted.contains(result.getUserId()))
+                .collect(Collectors.toList());
+
+        List<Long> winners = saved.stream()
+                .filter(result -> result.getTotalRanking() != null && result.getTotalRanking() == 1)
+                .map(FinalRoomResult::getUserId)
+                .collect(Collectors.toList());
+        if (!winners.isEmpty()) {
+            userRecordRepository.incrementRoomWin(winners);
+        }
+        for (FinalRoomResult result : saved) {
+            eventPublisher.publishEvent(new RoomFinished(result.getUserId(), roomId, result.getTotalRanking()));
+        }
+        return saved;
+    }
+
+    /**
+     * (user_id, room_id)에 기록이 없을 때만 저장합니다.
+     * 클라이언트의 최종 기록 저장과 게임 종료 일괄 저장이 동시에 와도 유니크 키로 한 건만 남습니다.
+     *
+     * @return 실제로 저장된 기록의 userId
+     */
+    private Set<Long> insertIfAbsent(List<RoomRecord> roomRecords) {
+        List<Long> ids = new ArrayList<>(roomRecords.size());
+        List<Object[]> args = new ArrayList<>(roomRecords.size());
+        for (RoomRecord roomRecord : roomRecords) {
+            roomRecord.setRoomRecordId(tableIdAllocator.next(RoomRecord.class));
+            ids.add(roomRecord.getRoomRecordId());
+            args.add(new Object[]{roomRecord.getRoomRecordId(), roomRecord.getUser().getUserId(),
+                    roomRecord.getRoom().getRoomId(), roomRecord.getTotalRanking(), roomRecord.getTotalScore(),
+                    roomRecord.getCreatedAt()});
+        }
+        // rewriteBatchedStatements 사용 시 행별 결과 수를 믿을 수 없으므로 들어간 행은 id로 다시 확인
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, args);
+        return new HashSet<>(roomRecordRepository.findUserIdsByIdIn(ids));
+    }
+
+    private RoomRecordResponse toResponse(RoomRecord roomRecord, Long userId, Long roomId) {
         return RoomRecordResponse.builder()
-                .roomRecordId(savedRecord.getRoomRecordId())
-                .userId(user.getUserId())
-                .roomId(room.getRoomId())
-                .totalRanking(savedRecord.getTotalRanking())
-                .totalScore(savedRecord.getTotalScore())
-                .createdAt(savedRecord.getCreatedAt())
+                .roomRecordId(roomRecord.getRoomRecordId())
+                .userId(userId)
+                .roomId(roomId)
+                .totalRanking(roomRecord.getTotalRanking())
+                .totalScore(roomRecord.getTotalScore())
+                .createdAt(roomRecord.getCreatedAt())
                 .build();
     }
 }
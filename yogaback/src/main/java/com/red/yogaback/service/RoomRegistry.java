@@ -0,0 +1,231 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.model.Room;
+import com.red.yogaback.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 방 실시간 인원/상태 레지스트리: 입장은 roomMax 대비 CAS, 변경분은 주기적으로 Room 테이블에 배치 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomRegistry {
+
+    private static final int CLOSED = -1;
+    private static final String FLUSH_SQL = "UPDATE room SET room_count = ?, room_state = ? WHERE room_id = ?";
+
+    private final RoomRepository roomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SseEmitterService sseEmitterService;
+    private final RoomCourseCache roomCourseCache;
+
+    private final ConcurrentHashMap<Long, LiveRoom> rooms = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyRoomIds = ConcurrentHashMap.newKeySet();
+
+    // 방 생성 직후 등록
+    public void register(Room room) {
+        rooms.put(room.getRoomId(), LiveRoom.from(room));
+    }
+
+    /**
+     * 입장 시도
+     * @return 비밀번호가 맞고 자리가 있어 입장했으면 true
+     */
+    public boolean tryEnter(Long roomId, String password) {
+        LiveRoom room = find(roomId);
+        if (room == null) {
+            return false;
+        }
+        if (room.password != null && !room.password.equals(password)) {
+            log.info("방 비밀번호 불일치: roomId = {}", roomId);
+            return false;
+        }
+        return enter(roomId, room);
+    }
+
+    // 비밀번호 확인을 이미 거친 입장 (소켓 재입장 등)
+    public boolean enter(Long roomId) {
+        LiveRoom room = find(roomId);
+        return room != null && enter(roomId, room);
+    }
+
+    private boolean enter(Long roomId, LiveRoom room) {
+        while (true) {
+            int current = room.count.get();
+            if (current == CLOSED || current >= room.roomMax) {
+                log.info("방 입장 불가: roomId = {}, 현재 인원 = {}, 최대 인원 = {}", roomId, current, room.roomMax);
+                return false;
+            }
+            if (room.count.compareAndSet(current, current + 1)) {
+                changed(roomId, current + 1);
+                return true;
+            }
+        }
+    }
+
+    // 퇴장: 마지막 인원이 나가면 0을 거치지 않고 바로 종료 (그 사이 입장이 끼어들 수 없음)
+    public void leave(Long roomId) {
+        LiveRoom room = find(roomId);
+        if (room == null) {
+            log.warn("Room not found: {}", roomId);
+            return;
+        }
+        while (true) {
+            int current = room.count.get();
+            if (current <= 0) {
+                log.warn("Room count is already 0 or closed: roomId = {}, count = {}", roomId, current);
+                return;
+            }
+            int next = current == 1 ? CLOSED : current - 1;
+            if (room.count.compareAndSet(current, next)) {
+                if (next == CLOSED) {
+                    closed(roomId);
+                } else {
+                    changed(roomId, next);
+                }
+                return;
+            }
+        }
+    }
+
+    // 입장 트랜잭션이 롤백되면 차지한 자리만 되돌림 (마지막 인원이어도 방을 닫지 않음)
+    public void cancelEnter(Long roomId) {
+        LiveRoom room = rooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+        while (true) {
+            int current = room.count.get();
+            if (current <= 0) {
+                return;
+            }
+            if (room.count.compareAndSet(current, current - 1)) {
+                changed(roomId, current - 1);
+                return;
+            }
+        }
+    }
+
+    // 게임 종료 등으로 방을 닫음
+    public void close(Long roomId) {
+        LiveRoom room = find(roomId);
+        if (room == null) {
+            return;
+        }
+        if (room.count.getAndSet(CLOSED) != CLOSED) {
+            closed(roomId);
+        }
+    }
+
+    // 실시간 인원 (레지스트리에 없으면 null)
+    public Integer liveCount(Long roomId) {
+        LiveRoom room = rooms.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        return Math.max(room.count.get(), 0);
+    }
+
+    public boolean isOpen(Long roomId) {
+        LiveRoom room = rooms.get(roomId);
+        return room == null || room.count.get() != CLOSED;
+    }
+
+    private void changed(Long roomId, int count) {
+        dirtyRoomIds.add(roomId);
+        sseEmitterService.notifyRoomCountChanged(roomId, count);
+    }
+
+    private void closed(Long roomId) {
+        dirtyRoomIds.add(roomId);
+        roomCourseCache.evict(roomId);
+        sseEmitterService.notifyRoomClosed(roomId);
+        log.info("Room {} is now closed; state set to 0", roomId);
+    }
+
+    private LiveRoom find(Long roomId) {
+        LiveRoom room = rooms.get(roomId);
+        if (room != null) {
+            return room;
+        }
+        // DB 조회는 computeIfAbsent 밖에서 수행 (맵 버킷 락을 잡지 않도록)
+        LiveRoom loaded = roomRepository.findById(roomId).map(LiveRoom::from).orElse(null);
+        if (loaded == null) {
+            return null;
+        }
+        // 이미 닫힌 방은 dirty가 아니라 flush에서 제거되지 않으므로 캐시하지 않음
+        if (loaded.count.get() == CLOSED) {
+            return loaded;
+        }
+        LiveRoom existing = rooms.putIfAbsent(roomId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * dirty 방의 인원/상태를 Room 테이블에 배치로 반영하고, 종료된 방은 레지스트리에서 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${room.registry.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirtyRoomIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Long> closedRoomIds = new ArrayList<>();
+        Iterator<Long> it = dirtyRoomIds.iterator();
+        while (it.hasNext()) {
+            Long roomId = it.next();
+            // 먼저 제거한 뒤 값을 읽어야, 그 사이 변경이 다음 flush에 다시 반영됨
+            it.remove();
+            LiveRoom room = rooms.get(roomId);
+            if (room == null) {
+                continue;
+            }
+            int count = room.count.get();
+            boolean isClosed = count == CLOSED;
+            batchArgs.add(new Object[]{isClosed ? 0 : count, isClosed ? 0L : 1L, roomId});
+            if (isClosed) {
+                closedRoomIds.add(roomId);
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            closedRoomIds.forEach(rooms::remove);
+            log.debug("Room 인원 배치 반영: {}건 (종료 {}건)", batchArgs.size(), closedRoomIds.size());
+        } catch (RuntimeException e) {
+            // 실패한 방은 다음 주기에 다시 시도
+            batchArgs.forEach(args -> dirtyRoomIds.add((Long) args[2]));
+            log.error("Room 인원 배치 반영 실패: {}건", batchArgs.size(), e);
+        }
+    }
+
+    private static class LiveRoom {
+        private final int roomMax;
+        private final String password;
+        // 현재 인원, CLOSED(-1)이면 종료된 방
+        private final AtomicInteger count;
+
+        private LiveRoom(int roomMax, String password, int count) {
+            this.roomMax = roomMax;
+            this.password = password;
+            this.count = new AtomicInteger(count);
+        }
+
+        static LiveRoom from(Room room) {
+            boolean isClosed = room.getRoomState() != null && room.getRoomState() == 0L;
+            return new LiveRoom(room.getRoomMax(), room.getPassword(), isClosed ? CLOSED : room.getRoomCount());
+        }
+    }
+}
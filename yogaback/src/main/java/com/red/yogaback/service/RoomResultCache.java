@@ -0,0 +1,97 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.event.PoseBatchRecorded;
+import com.red.yogaback.event.PoseRecorded;
+import com.red.yogaback.global.LruMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 멀티 결과 화면 캐시: 방 단위 LRU, 방 안에서는 페이지(roomOrderIndex)별 저장
+// 그 방에 기록이 커밋되거나 사진이 반영되면 방 항목을 새 객체로 바꿔 무효화
+@Component
+public class RoomResultCache {
+
+    // getMaxImageDTOs 결과를 저장하는 페이지 키
+    public static final int MAX_IMAGES_PAGE = -1;
+
+    // lock: this
+    private final LruMap<Long, RoomResults> rooms;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RoomResultCache(MeterRegistry meterRegistry,
+                           @Value("${multi.result-cache.max-rooms:500}") int maxRooms) {
+        this.rooms = new LruMap<>(maxRooms);
+        this.hitCounter = Counter.builder("multi.result.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("multi.result.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("multi.result.cache.rooms", this, RoomResultCache::size)
+                .description("결과 캐시에 보관 중인 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 loader로 조회해 저장합니다. (DB 조회는 락 밖에서 수행)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(Long roomId, int page, Supplier<List<T>> loader) {
+        RoomResults results;
+        synchronized (this) {
+            results = rooms.computeIfAbsent(roomId, id -> new RoomResults());
+        }
+        List<?> cached = results.pages.get(page);
+        if (cached != null) {
+            hitCounter.increment();
+            return (List<T>) cached;
+        }
+        missCounter.increment();
+        List<T> loaded = List.copyOf(loader.get());
+        synchronized (this) {
+            // 조회 중 무효화/제거되었다면 저장하지 않음
+            if (rooms.get(roomId) == results) {
+                results.pages.put(page, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Long roomId) {
+        synchronized (this) {
+            if (rooms.containsKey(roomId)) {
+                rooms.put(roomId, new RoomResults());
+            }
+        }
+    }
+
+    // 새 기록은 커밋된 뒤에 무효화해야, 커밋 전 조회가 옛 결과를 다시 채우지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPoseRecorded(PoseRecorded event) {
+        if (event.getRoomId() != null) {
+            evict(event.getRoomId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPoseBatchRecorded(PoseBatchRecorded event) {
+        if (event.getRoomId() != null) {
+            evict(event.getRoomId());
+        }
+    }
+
+    private synchronized int size() {
+        return rooms.size();
+    }
+
+    private static class RoomResults {
+        private final Map<Integer, List<?>> pages = new ConcurrentHashMap<>();
+    }
+}
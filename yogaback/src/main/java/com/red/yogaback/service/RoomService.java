@@ -1,5 +1,6 @@
 package com.red.yogaback.service;
 
+import com.red.yogaback.dto.projection.LobbyRoomRow;
 import com.red.yogaback.dto.request.RoomEnterReq;
 import com.red.yogaback.dto.request.RoomRequest;
 import com.red.yogaback.model.Pose;
@@ -11,12 +12,13 @@ import com.red.yogaback.security.SecurityUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 
@@ -30,9 +32,8 @@ public class RoomService {
     private final RoomCoursePoseRepository roomCoursePoseRepository;
     private final PoseRepository poseRepository;
     private final SseEmitterService sseEmitterService;
-    private final CacheManager cacheManager;
-//
-    Map<Long, List<RoomRequest.PoseDetail>> roomPoseMap = new ConcurrentHashMap<>();
+    private final RoomRegistry roomRegistry;
+    private final RoomCourseCache roomCourseCache;
 
     // 방 만들기
     public RoomRequest createRooms(RoomRequest roomReq, Long userId) {
@@ -52,11 +53,20 @@ public class RoomService {
                 .build();
 
         Room savedRoom = roomRepository.save(room);
+        roomRegistry.register(savedRoom);
 //        userCourseCache.storeUserCourse(savedRoom.getRoomId(), roomReq.getPose());
 
+        // 포즈는 한 번의 IN 쿼리로 조회
+        Map<Long, Pose> poses = poseRepository.findMapByIds(roomReq.getPose().stream()
+                .map(RoomRequest.PoseDetail::getPoseId)
+                .collect(Collectors.toSet()));
+        long now = System.currentTimeMillis();
         List<RoomCoursePose> roomCoursePoses = new ArrayList<>();
         for (RoomRequest.PoseDetail poseDetail : roomReq.getPose()) {
-            Pose findPose = poseRepository.findById(poseDetail.getPoseId()).orElseThrow(() -> new NoSuchElementException("포즈를 찾을 수 없습니다."));
+            Pose findPose = poses.get(poseDetail.getPoseId());
+            if (findPose == null) {
+                throw new NoSuchElementException("포즈를 찾을 수 없습니다.");
+            }
             poseDetail.setPoseId(findPose.getPoseId());
             poseDetail.setPoseName(findPose.getPoseName());
             poseDetail.setPoseImg(findPose.getPoseImg());
@@ -69,93 +79,84 @@ public class RoomService {
                     .room(savedRoom)
                     .pose(findPose)
                     .roomOrderIndex(poseDetail.getUserOrderIndex())
-                    .createdAt(System.currentTimeMillis())
+                    .createdAt(now)
                     .build();
             roomCoursePoses.add(roomCoursePose);
         }
 
+        // RoomCoursePose는 테이블 기반 id라 배치 INSERT됨
         roomCoursePoseRepository.saveAll(roomCoursePoses);
         roomReq.setRoomId(savedRoom.getRoomId());
         roomReq.setUserId(user.getUserId());
         roomReq.setUserNickname(user.getUserNickname());
-        roomPoseMap.put(savedRoom.getRoomId(), roomReq.getPose());
-//        cashingRoomPoses(room.getRoomId(), roomReq.getPose());
-//        sseEmitterService.notifyRoomUpdate(getAllRooms(""));
+        roomCourseCache.put(savedRoom.getRoomId(), roomReq.getPose());
+        // 로비에는 비밀번호를 제외한 방 정보만 델타로 전달
+        RoomRequest lobbyRoom = RoomRequest.builder()
+                .roomId(savedRoom.getRoomId())
+                .roomMax(savedRoom.getRoomMax())
+                .roomCount(savedRoom.getRoomCount())
+                .userId(user.getUserId())
+                .userNickname(user.getUserNickname())
+                .roomName(savedRoom.getRoomName())
+                .hasPassword(roomReq.isHasPassword())
+                .pose(roomReq.getPose())
+                .build();
+        sseEmitterService.notifyRoomAdded(lobbyRoom);
         return roomReq;
 
     }
 
-//    @CachePut(value = "roomPoses", key = "#roomId")
-//    private static List<RoomRequest.PoseDetail> cashingRoomPoses(Long roomId, List<RoomRequest.PoseDetail> poses) {
-//        return poses;
-//    }
-
     // 방 조회 / SSE 연결
-    public List<RoomRequest> getAllRooms(String roomName) {
-//        log.info("현재 방, 포즈: {}", roomPoseMap);
-        List<Room> allRooms = roomRepository.findByRoomNameContaining(roomName);
-        if (allRooms.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return allRooms.stream().filter(room ->
-                room.getRoomState() == 1L).map(room -> {
-            User user = userRepository.findById(room.getCreatorId()).orElseThrow(() -> new NoSuchElementException("유저를 찾을 수 없습니다."));
+    // cursor: 이전 페이지의 마지막 roomId (null이면 첫 페이지), size: null이면 전체
+    public List<RoomRequest> getAllRooms(String roomName, Long cursor, Integer size) {
+        Long keyset = (cursor == null || cursor <= 0) ? Long.MAX_VALUE : cursor;
+        List<LobbyRoomRow> rows = roomRepository.findLobbyRooms(
+                roomName == null ? "" : roomName, keyset, size == null ? Pageable.unpaged() : PageRequest.of(0, size));
+        Map<Long, List<RoomRequest.PoseDetail>> courses = roomCourseCache.getAll(
+                rows.stream().map(LobbyRoomRow::getRoomId).collect(Collectors.toList()));
+        return rows.stream().map(row -> {
             RoomRequest roomRequest = new RoomRequest();
-            roomRequest.setRoomId(room.getRoomId());
-            roomRequest.setRoomCount(room.getRoomCount());
-            roomRequest.setRoomMax(room.getRoomMax());
-            roomRequest.setUserId(user.getUserId());
-            roomRequest.setUserNickname(user.getUserNickname());
-            roomRequest.setRoomName(room.getRoomName());
-            roomRequest.setHasPassword(room.getHasPassword());
-
-            List<RoomRequest.PoseDetail> poseDetails = roomPoseMap.getOrDefault(room.getRoomId(), new ArrayList<>());
-            roomRequest.setPose(poseDetails);
-
-//            roomRequest.setPose(roomPoseMap.get(room.getRoomId()));
-            log.info("roomPoseMap: {}",roomPoseMap);
-
+            roomRequest.setRoomId(row.getRoomId());
+            // 실시간 인원은 레지스트리 기준 (DB는 비동기로 반영됨)
+            Integer liveCount = roomRegistry.liveCount(row.getRoomId());
+            roomRequest.setRoomCount(liveCount != null ? liveCount : row.getRoomCount());
+            roomRequest.setRoomMax(row.getRoomMax());
+            roomRequest.setUserId(row.getUserId());
+            roomRequest.setUserNickname(row.getUserNickname());
+            roomRequest.setRoomName(row.getRoomName());
+            roomRequest.setHasPassword(Boolean.TRUE.equals(row.getHasPassword()));
+            roomRequest.setPose(courses.getOrDefault(row.getRoomId(), new ArrayList<>()));
             return roomRequest;
-
         }).collect(Collectors.toList());
     }
 
-    // 캐시에서 포즈 꺼내오기
-    public List<RoomRequest.PoseDetail> getRoomPosesFromCache(Long roomId) {
-        Cache cache = cacheManager.getCache("roomPoses");
-        if (cache != null) {
-            Cache.ValueWrapper valueWrapper = cache.get(roomId);
-            if (valueWrapper != null) {
-                return (List<RoomRequest.PoseDetail>) valueWrapper.get();
-            }
-        }
-        return new ArrayList<>();
-    }
-
-
     // 방 입장
+    // 인원 증가는 RoomRegistry에서 CAS로 처리하고, Room 테이블에는 비동기 배치로 반영됩니다.
     @Transactional
     public boolean enterRoom(RoomEnterReq roomEnterReq) {
         Long userId = SecurityUtil.getCurrentMemberId();
         User findUser = userRepository.findById(userId).orElseThrow(() -> new NoSuchElementException("유저를 찾을 수 없습니다."));
-        Room findRoom = roomRepository.findById(roomEnterReq.getRoomId()).orElseThrow(() -> new NoSuchElementException("방을 찾을 수 없습니다."));
-        log.info("현재 인원: " + findRoom.getRoomCount());
-        log.info("최대 인원: " + findRoom.getRoomMax());
-        if (findRoom.getRoomCount() == findRoom.getRoomMax()){
-            log.info("현재 인원: " + findRoom.getRoomCount());
-            log.info("최대 인원: " + findRoom.getRoomMax());
-            return false;
-        }
-        log.info("입력 비밀번호: " + roomEnterReq.getPassword());
-        log.info("방 비밀번호: " + findRoom.getPassword());
-        if (findRoom.getPassword().equals(roomEnterReq.getPassword())) {
-            findUser.setRoom(findRoom);
-            findRoom.setRoomCount(findRoom.getRoomCount() + 1);
-        } else {
+        if (!roomRegistry.tryEnter(roomEnterReq.getRoomId(), roomEnterReq.getPassword())) {
             return false;
         }
-        sseEmitterService.notifyRoomUpdate(getAllRooms(""));
+        releaseSeatOnRollback(roomEnterReq.getRoomId());
+        findUser.setRoom(roomRepository.getReferenceById(roomEnterReq.getRoomId()));
         return true;
     }
 
+    // 자리는 커밋 전에 CAS로 차지하므로, 입장 트랜잭션이 커밋되지 않으면 되돌림
+    private void releaseSeatOnRollback(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    roomRegistry.cancelEnter(roomId);
+                }
+            }
+        });
+    }
+
 }
@@ -1,56 +1,165 @@
 package com.red.yogaback.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
 public class S3FileStorageService {
 
     private final S3Client s3Client;
+    private final String bucketName;
+    private final String publicUrlBase;
+    private final long multipartThreshold;
+    private final int partSize;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
-
-    public S3FileStorageService(@Value("${aws.s3.region}") String region,
+    /**
+     * aws.s3.endpoint를 지정하면 MinIO/LocalStack 같은 S3 호환 서버로 연결합니다. (path-style 주소 사용)
+     */
+    public S3FileStorageService(@Value("${aws.s3.bucket}") String bucketName,
+                                @Value("${aws.s3.region}") String region,
                                 @Value("${aws.s3.access-key}") String accessKey,
-                                @Value("${aws.s3.secret-key}") String secretKey) {
-        s3Client = S3Client.builder()
+                                @Value("${aws.s3.secret-key}") String secretKey,
+                                @Value("${aws.s3.endpoint:}") String endpoint,
+                                @Value("${aws.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                                @Value("${aws.s3.part-size-bytes:8388608}") int partSize) {
+        this.bucketName = bucketName;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
-                )
-                .build();
+                );
+        if (endpoint != null && !endpoint.isBlank()) {
+            String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+            builder.endpointOverride(URI.create(base))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+            this.publicUrlBase = base + "/" + bucketName + "/";
+        } else {
+            this.publicUrlBase = "https://" + bucketName + ".s3.amazonaws.com/";
+        }
+        s3Client = builder.build();
     }
 
+    // 요청 본문을 힙에 전부 올리지 않고 스트림으로 업로드
     public String storeFile(MultipartFile file) {
-        String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
+        String fileName = newObjectKey(file.getOriginalFilename());
         try {
             PutObjectRequest putOb = PutObjectRequest.builder()
                     .bucket(bucketName)
                     .key(fileName)
-                    .acl("public-read")
+                    .contentType(file.getContentType())
+                    .acl(ObjectCannedACL.PUBLIC_READ)
                     .build();
 
             PutObjectResponse response = s3Client.putObject(
                     putOb,
-                    software.amazon.awssdk.core.sync.RequestBody.fromBytes(file.getBytes())
+                    RequestBody.fromInputStream(file.getInputStream(), file.getSize())
             );
-            System.out.println("S3 Response status: " + response.sdkHttpResponse().statusCode());
+            log.debug("S3 Response status: {}", response.sdkHttpResponse().statusCode());
 
-            // S3에 public-read ACL이 설정되어 있다면, 아래와 같이 URL을 생성할 수 있습니다.
-            return "https://" + bucketName + ".s3.amazonaws.com/" + fileName;
+            return urlOf(fileName);
         } catch (IOException e) {
             throw new RuntimeException("Failed to store file", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 디스크의 파일을 업로드합니다.
+     * multipart-threshold보다 크면 part-size 단위 멀티파트 업로드를 사용합니다.
+     */
+    public String storeFile(Path file, String key, String contentType) throws IOException {
+        long size = file.toFile().length();
+        if (size > multipartThreshold) {
+            storeMultipart(file, key, contentType, size);
+        } else {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .acl(ObjectCannedACL.PUBLIC_READ)
+                            .build(),
+                    RequestBody.fromFile(file));
+        }
+        return urlOf(key);
+    }
+
+    private void storeMultipart(Path file, String key, String contentType, long size) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build()).uploadId();
+        List<CompletedPart> parts = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(partSize);
+            long position = 0;
+            int partNumber = 1;
+            while (position < size) {
+                buffer.clear();
+                while (buffer.hasRemaining() && position + buffer.position() < size) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+                int length = buffer.remaining();
+                UploadPartResponse part = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromByteBuffer(buffer));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(part.eTag()).build());
+                position += length;
+                partNumber++;
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    public String newObjectKey(String originalFilename) {
+        return UUID.randomUUID().toString() + "_" + (originalFilename == null ? "image" : originalFilename);
+    }
+
+    public String urlOf(String key) {
+        return publicUrlBase + key;
+    }
+}
@@ -0,0 +1,56 @@
+package com.red.yogaback.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+// SchedulerLock 테이블 기반 분산 락 (lockedUntil이 지난 행만 조건부 UPDATE로 획득)
+@Slf4j
+@Component
+public class SchedulerLockManager {
+
+    private static final String INSERT_LOCK =
+            "INSERT IGNORE INTO scheduler_lock (lock_name, locked_until, locked_at, locked_by) VALUES (?, 0, 0, '')";
+    private static final String ACQUIRE_LOCK =
+            "UPDATE scheduler_lock SET locked_until = ?, locked_at = ?, locked_by = ? " +
+            "WHERE lock_name = ? AND locked_until <= ?";
+    private static final String RELEASE_LOCK =
+            "UPDATE scheduler_lock SET locked_until = ? WHERE lock_name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    public SchedulerLockManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * @param lockAtMostMillis 작업이 비정상 종료되어도 이 시간이 지나면 락이 풀림
+     * @return 획득했으면 true
+     */
+    public boolean tryLock(String lockName, long lockAtMostMillis) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update(INSERT_LOCK, lockName);
+        boolean acquired = jdbcTemplate.update(ACQUIRE_LOCK, now + lockAtMostMillis, now, instanceId, lockName, now) == 1;
+        if (!acquired) {
+            log.info("스케줄러 락 획득 실패 (다른 인스턴스 실행 중): {}", lockName);
+        }
+        return acquired;
+    }
+
+    public void unlock(String lockName) {
+        jdbcTemplate.update(RELEASE_LOCK, System.currentTimeMillis(), lockName, instanceId);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
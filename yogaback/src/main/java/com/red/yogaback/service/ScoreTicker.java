@@ -0,0 +1,208 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.dto.request.ScoreMessage;
+import com.red.yogaback.global.DaemonThreads;
+import com.red.yogaback.websocket.dto.ScoreTickMessage;
+import com.red.yogaback.websocket.dto.SignalType;
+import com.red.yogaback.websocket.service.RoomFrameMetrics;
+import com.red.yogaback.websocket.service.UserSessionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+// 실시간 점수 틱: 사용자별 최신 값만 남겨 두었다가 publish-interval-ms마다 방별로 한 프레임씩 보냄
+@Slf4j
+@Component
+public class ScoreTicker {
+
+    private static final String FRAMES = "score.tick.frames";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserSessionService userSessionService;
+    private final RoomFrameMetrics roomFrameMetrics;
+    private final long publishIntervalMillis;
+    private final int maxPlayers;
+    private final long idleEvictMillis;
+
+    private final ConcurrentHashMap<Long, RoomTicker> rooms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService publisher;
+
+    public ScoreTicker(SimpMessagingTemplate messagingTemplate,
+                       UserSessionService userSessionService,
+                       RoomFrameMetrics roomFrameMetrics,
+                       @Value("${game.score-ticker.publish-interval-ms:200}") long publishIntervalMillis,
+                       @Value("${game.score-ticker.max-players:16}") int maxPlayers,
+                       @Value("${game.score-ticker.idle-evict-ms:10000}") long idleEvictMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.userSessionService = userSessionService;
+        this.roomFrameMetrics = roomFrameMetrics;
+        this.publishIntervalMillis = publishIntervalMillis;
+        this.maxPlayers = maxPlayers;
+        this.idleEvictMillis = idleEvictMillis;
+        this.publisher = DaemonThreads.scheduled("score-ticker");
+    }
+
+    @PostConstruct
+    public void start() {
+        publisher.scheduleAtFixedRate(this::publishAll, publishIntervalMillis, publishIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 사용자의 최신 점수를 기록합니다.
+     * @return 방에 접속해 있지 않거나 방 슬롯이 가득 차 기록하지 못했으면 false
+     */
+    public boolean ingest(Long roomId, Long userId, ScoreMessage message) {
+        if (!userSessionService.isInRoom(String.valueOf(roomId), String.valueOf(userId))) {
+            return false;
+        }
+        // 유휴 제거와 같은 키 잠금 안에서 사용 시각을 갱신하므로 여기서 꺼낸 티커는 제거되지 않음
+        long now = System.currentTimeMillis();
+        RoomTicker ticker = rooms.compute(roomId, (id, current) -> {
+            RoomTicker touched = current != null ? current : new RoomTicker(maxPlayers);
+            touched.lastIngestAt = now;
+            return touched;
+        });
+        int slot = ticker.slotOf(userId);
+        if (slot < 0) {
+            return false;
+        }
+        ticker.slots.set(slot, new Tick(userId, message.getScore(), message.getDuration(), message.getRoundIndex()));
+        ticker.dirty.set(true);
+        roomFrameMetrics.inbound(FRAMES, String.valueOf(roomId));
+        return true;
+    }
+
+    // 예외가 나도 다음 주기가 계속 실행되도록 모든 예외를 잡음
+    private void publishAll() {
+        long now = System.currentTimeMillis();
+        for (Long roomId : rooms.keySet()) {
+            try {
+                RoomTicker ticker = rooms.computeIfPresent(roomId,
+                        (id, current) -> now - current.lastIngestAt > idleEvictMillis ? null : current);
+                if (ticker == null) {
+                    continue;
+                }
+                // 방을 나간 사용자의 슬롯은 비워서 마지막 값이 계속 나가지 않게 함
+                boolean departed = ticker.releaseDeparted(userId ->
+                        !userSessionService.isInRoom(String.valueOf(roomId), String.valueOf(userId)));
+                if (ticker.dirty.getAndSet(false) || departed) {
+                    publish(roomId, ticker);
+                }
+            } catch (RuntimeException e) {
+                log.warn("점수 틱 전송 실패: roomId = {}", roomId, e);
+            }
+        }
+    }
+
+    private void publish(Long roomId, RoomTicker ticker) {
+        List<Tick> ticks = new ArrayList<>(ticker.slots.length());
+        int round = Integer.MIN_VALUE;
+        for (int i = 0; i < ticker.slots.length(); i++) {
+            Tick tick = ticker.slots.get(i);
+            // 슬롯을 반납한 직후 도착한 틱은 주인이 없으므로 제외
+            if (tick != null && Integer.valueOf(i).equals(ticker.slotByUser.get(tick.userId))) {
+                ticks.add(tick);
+                round = Math.max(round, tick.roundIndex);
+            }
+        }
+        if (ticks.isEmpty()) {
+            return;
+        }
+        // 이전 라운드에 머문 값은 제외
+        int latestRound = round;
+        List<ScoreTickMessage.Entry> scores = ticks.stream()
+                .filter(tick -> tick.roundIndex == latestRound)
+                .sorted(Comparator.comparingInt((Tick tick) -> tick.score).reversed())
+                .map(tick -> new ScoreTickMessage.Entry(String.valueOf(tick.userId), tick.score, tick.duration))
+                .toList();
+        messagingTemplate.convertAndSend("/topic/room/" + roomId,
+                new ScoreTickMessage(SignalType.SCORE_TICK.getWire(), latestRound, scores),
+                Map.of(SignalType.HEADER, SignalType.SCORE_TICK.getWire()));
+        roomFrameMetrics.outbound(FRAMES, String.valueOf(roomId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    private static class RoomTicker {
+        private final AtomicReferenceArray<Tick> slots;
+        private final ConcurrentHashMap<Long, Integer> slotByUser = new ConcurrentHashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();   // lock: this
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private long lastIngestAt;   // lock: rooms의 키
+
+        private RoomTicker(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < capacity; i++) {
+                freeSlots.add(i);
+            }
+        }
+
+        // 처음 보는 사용자에게 빈 슬롯을 배정, 가득 찼으면 -1 (배정 실패는 기억하지 않음)
+        private int slotOf(Long userId) {
+            Integer slot = slotByUser.get(userId);
+            if (slot != null) {
+                return slot;
+            }
+            synchronized (this) {
+                slot = slotByUser.get(userId);
+                if (slot != null) {
+                    return slot;
+                }
+                Integer free = freeSlots.poll();
+                if (free == null) {
+                    return -1;
+                }
+                slotByUser.put(userId, free);
+                return free;
+            }
+        }
+
+        // 조건에 맞는 사용자의 슬롯을 비우고 반납, 하나라도 비웠으면 true
+        private synchronized boolean releaseDeparted(Predicate<Long> departed) {
+            boolean released = false;
+            for (Map.Entry<Long, Integer> entry : slotByUser.entrySet()) {
+                if (departed.test(entry.getKey())) {
+                    slotByUser.remove(entry.getKey());
+                    slots.set(entry.getValue(), null);
+                    freeSlots.add(entry.getValue());
+                    released = true;
+                }
+            }
+            return released;
+        }
+    }
+
+    private static class Tick {
+        private final Long userId;
+        private final int score;
+        private final double duration;
+        private final int roundIndex;
+
+        private Tick(Long userId, int score, double duration, int roundIndex) {
+            this.userId = userId;
+            this.score = score;
+            this.duration = duration;
+            this.roundIndex = roundIndex;
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.red.yogaback.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.red.yogaback.constant.LobbyEventType;
 import com.red.yogaback.dto.request.RoomRequest;
+import com.red.yogaback.dto.respond.LobbyEventRes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
@@ -20,11 +25,27 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SseEmitterService {
 
 
-    private final Map<String, SseEmitter> emitterMap = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final LobbyFanoutDispatcher fanoutDispatcher;
+
     private static final long TIMEOUT = 60 * 1000;
     private static final long RECONNECTION_TIMEOUT = 1000L;
-
-    public SseEmitter subscribe(List<RoomRequest> allRooms) {
+    // Last-Event-ID 재전송을 위해 보관하는 최근 델타 개수
+    private static final int REPLAY_CAPACITY = 512;
+    private static final String SNAPSHOT_EVENT = "초기 방";
+    private static final String DELTA_EVENT = "방 업데이트";
+
+    // 로비 버전과 최근 델타 (version 오름차순), replayLock으로 보호
+    private final Deque<LobbyFrame> replayBuffer = new ArrayDeque<>();
+    private final Object replayLock = new Object();
+    private long version = 0L;
+
+    /**
+     * 로비 SSE 구독
+     * - Last-Event-ID가 재전송 버퍼 범위 안이면 그 이후의 델타만 보냅니다.
+     * - 그 외에는 현재 버전으로 전체 방 목록(스냅샷)을 보냅니다.
+     */
+    public SseEmitter subscribe(String roomName, String lastEventId, Supplier<List<RoomRequest>> snapshotLoader) {
         SseEmitter emitter = createEmitter();
         String clientId = UUID.randomUUID().toString();
 
@@ -39,19 +60,35 @@ public class SseEmitterService {
         });
 
         emitter.onCompletion(()->{
-            if (emitterMap.remove(clientId) != null){
+            if (fanoutDispatcher.unregister(clientId)){
                 log.info("SSE Emitter 캐시 삭제: id = {}",clientId);
             }
             log.info("SSE 연결 해제 완료: id = {}",clientId);
         });
 
-        emitterMap.put(clientId, emitter);
-        log.info("allRooms: {}",allRooms);
+        // 스냅샷 조회 전에 먼저 (일시정지 상태로) 등록해야 조회 중 발생한 델타를 놓치지 않음
+        // 중복 수신은 클라이언트에서 roomId 기준으로 멱등 처리
+        fanoutDispatcher.register(clientId, emitter, roomName);
+
         try {
-            emitter.send(SseEmitter.event()
-                    .name("초기 방")
-                    .data(allRooms)
-                    .reconnectTime(RECONNECTION_TIMEOUT));
+            List<LobbyFrame> missed = findFramesSince(lastEventId);
+            if (missed != null) {
+                log.info("SSE 재연결 델타 전송: id = {}, lastEventId = {}, count = {}", clientId, lastEventId, missed.size());
+                for (LobbyFrame frame : missed) {
+                    if (frame.matches(roomName)) {
+                        emitter.send(frame.getEvent());
+                    }
+                }
+            } else {
+                long snapshotVersion = currentVersion();
+                List<RoomRequest> allRooms = snapshotLoader.get();
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(snapshotVersion))
+                        .name(SNAPSHOT_EVENT)
+                        .data(allRooms)
+                        .reconnectTime(RECONNECTION_TIMEOUT));
+            }
+            fanoutDispatcher.activate(clientId);
         } catch (IOException e){
             emitter.completeWithError(e);
         }
@@ -64,24 +101,95 @@ public class SseEmitterService {
         return new SseEmitter(TIMEOUT);
 
     }
-//    @Async
-    public void notifyRoomUpdate(List<RoomRequest> allRooms){
-        if (emitterMap.isEmpty()){
-            return;
+
+    // 방 생성 델타
+    public void notifyRoomAdded(RoomRequest room) {
+        publish(LobbyEventType.ROOM_ADDED, room.getRoomId(), room.getRoomName(), room, null);
+    }
+
+    // 방 인원 변경 델타
+    public void notifyRoomCountChanged(Long roomId, int roomCount) {
+        publish(LobbyEventType.ROOM_COUNT_CHANGED, roomId, null, null, roomCount);
+    }
+
+    // 방 종료 델타
+    public void notifyRoomClosed(Long roomId) {
+        publish(LobbyEventType.ROOM_CLOSED, roomId, null, null, null);
+    }
+
+    public long currentVersion() {
+        synchronized (replayLock) {
+            return version;
         }
-        List<String> deadEmitters = new ArrayList<>();
+    }
 
-        emitterMap.forEach((clientId,emitter)->{
+    /**
+     * 델타 이벤트를 버전 부여 후 한 번만 직렬화하고, 같은 페이로드를 모든 구독자에게 재사용합니다.
+     * 실제 전송은 LobbyFanoutDispatcher가 비동기로 처리하므로 호출 스레드는 바로 반환됩니다.
+     */
+    private void publish(LobbyEventType type, Long roomId, String roomName, RoomRequest room, Integer roomCount) {
+        synchronized (replayLock) {
+            long nextVersion = version + 1;
+            LobbyEventRes event = LobbyEventRes.builder()
+                    .type(type.getValue())
+                    .version(nextVersion)
+                    .roomId(roomId)
+                    .room(room)
+                    .roomCount(roomCount)
+                    .build();
+            String json;
             try {
-                emitter.send(SseEmitter.event()
-                        .name("방 업데이트")
-                        .data(allRooms)
-                        .reconnectTime(RECONNECTION_TIMEOUT));
-            } catch (IOException e){
-                deadEmitters.add(clientId);
+                json = objectMapper.writeValueAsString(event);
+            } catch (JsonProcessingException e) {
+                log.error("로비 이벤트 직렬화 실패: type = {}, roomId = {}", type, roomId, e);
+                return;
             }
-        });
-        deadEmitters.forEach(emitterMap::remove);
+            version = nextVersion;
+            LobbyFrame frame = new LobbyFrame(nextVersion, type, roomId, roomName, SseEmitter.event()
+                    .id(String.valueOf(nextVersion))
+                    .name(DELTA_EVENT)
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .reconnectTime(RECONNECTION_TIMEOUT)
+                    .build());
+            replayBuffer.addLast(frame);
+            if (replayBuffer.size() > REPLAY_CAPACITY) {
+                replayBuffer.removeFirst();
+            }
+            // 버전 순서대로 디스패치되도록 락 안에서 넘김 (큐에 넣기만 하므로 바로 반환)
+            fanoutDispatcher.publish(frame);
+        }
+    }
+
+    /**
+     * lastEventId 이후의 델타를 반환합니다.
+     * 버퍼에서 이미 밀려난 버전이거나 형식이 잘못된 경우 null (스냅샷 필요)
+     */
+    private List<LobbyFrame> findFramesSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        long lastVersion;
+        try {
+            lastVersion = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        synchronized (replayLock) {
+            if (lastVersion > version) {
+                return null;
+            }
+            long oldest = replayBuffer.isEmpty() ? version + 1 : replayBuffer.peekFirst().getVersion();
+            if (lastVersion + 1 < oldest) {
+                return null;
+            }
+            List<LobbyFrame> frames = new ArrayList<>();
+            for (LobbyFrame frame : replayBuffer) {
+                if (frame.getVersion() > lastVersion) {
+                    frames.add(frame);
+                }
+            }
+            return frames;
+        }
     }
 
 }
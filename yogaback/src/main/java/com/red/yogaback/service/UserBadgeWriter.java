@@ -0,0 +1,44 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.model.UserBadge;
+import com.red.yogaback.repository.TableIdAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 배지 레벨 반영: (user_id, badge_id)가 없으면 INSERT, 있으면 더 높은 레벨일 때만 갱신 (이벤트 평가, 백필 공용)
+@Component
+@RequiredArgsConstructor
+public class UserBadgeWriter {
+
+    // high_level을 마지막에 바꿔야 앞의 비교가 기존 레벨 기준으로 평가됨
+    private static final String UPSERT_SQL = "INSERT INTO user_badge " +
+            "(user_badge_id, user_id, badge_id, high_level, progress, is_new, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 1, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "progress = CASE WHEN VALUES(high_level) > high_level THEN VALUES(progress) ELSE progress END, " +
+            "is_new = CASE WHEN VALUES(high_level) > high_level THEN 1 ELSE is_new END, " +
+            "created_at = CASE WHEN VALUES(high_level) > high_level THEN VALUES(created_at) ELSE created_at END, " +
+            "high_level = GREATEST(high_level, VALUES(high_level))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TableIdAllocator tableIdAllocator;
+
+    public void upsert(Long userId, Long badgeId, int level, int progress, long now) {
+        upsertAll(List.<Object[]>of(new Object[]{userId, badgeId, level, progress, now}));
+    }
+
+    /**
+     * @param rows {userId, badgeId, level, progress, now}
+     */
+    public void upsertAll(List<Object[]> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            args.add(new Object[]{tableIdAllocator.next(UserBadge.class), row[0], row[1], row[2], row[3], row[4]});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+}
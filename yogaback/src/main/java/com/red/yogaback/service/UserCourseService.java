@@ -4,15 +4,18 @@ import com.red.yogaback.constant.ErrorCode;
 import com.red.yogaback.dto.request.CreateCourseRequest;
 import com.red.yogaback.dto.respond.UserCourseRes;
 import com.red.yogaback.error.CustomException;
+import com.red.yogaback.event.CourseCreated;
 import com.red.yogaback.model.*;
 import com.red.yogaback.repository.*;
 import com.red.yogaback.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,7 +26,8 @@ public class UserCourseService {
     private final PoseRepository poseRepository;
     private final UserCourseRepository userCourseRepository;
     private final UserCoursePoseRepository userCoursePoseRepository;
-    private final BadgeService badgeService;
+    private final BadgeEngine badgeEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * [POST] 커스텀 코스 생성
@@ -47,26 +51,13 @@ public class UserCourseService {
         userCourse.setCreatedAt(System.currentTimeMillis());
         userCourseRepository.save(userCourse);
 
-        // 4) UserCoursePose 생성/저장
-        List<UserCoursePose> poseList = new ArrayList<>();
-        for (CreateCourseRequest.PoseInfo poseInfo : request.getPoses()) {
-            Pose pose = poseRepository.findById(poseInfo.getPoseId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.POSE_NOT_FOUND));
-
-            UserCoursePose userCoursePose = new UserCoursePose();
-            userCoursePose.setUserCourse(userCourse);
-            userCoursePose.setPose(pose);
-            userCoursePose.setUserOrderIndex(poseInfo.getUserOrderIndex());
-            userCoursePose.setCreatedAt(System.currentTimeMillis());
-            userCoursePoseRepository.save(userCoursePose);
-
-            poseList.add(userCoursePose);
-        }
+        // 4) UserCoursePose 생성/저장 (포즈는 한 번에 조회, 코스 포즈는 배치 저장)
+        List<UserCoursePose> poseList = saveCoursePoses(userCourse, request.getPoses());
 
         // 엔티티 객체에도 poseList를 넣어줘야, fromEntity()에서 접근 가능
         userCourse.setUserCoursePoses(poseList);
 
-        badgeService.updateUserRecordAndAssignBadges(user);
+        eventPublisher.publishEvent(new CourseCreated(userId, userCourse.getUserCourseId()));
 
         // 5) 생성된 코스 정보를 DTO로 변환하여 반환
         return UserCourseRes.fromEntity(userCourse);
@@ -112,20 +103,7 @@ public class UserCourseService {
         // 기존 포즈들 삭제 -> 새로 추가
         userCoursePoseRepository.deleteAllByUserCourseUserCourseId(courseId);
 
-        List<UserCoursePose> poseList = new ArrayList<>();
-        for (CreateCourseRequest.PoseInfo poseInfo : request.getPoses()) {
-            Pose pose = poseRepository.findById(poseInfo.getPoseId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.POSE_NOT_FOUND));
-
-            UserCoursePose userCoursePose = new UserCoursePose();
-            userCoursePose.setUserCourse(userCourse);
-            userCoursePose.setPose(pose);
-            userCoursePose.setUserOrderIndex(poseInfo.getUserOrderIndex());
-            userCoursePose.setCreatedAt(System.currentTimeMillis());
-            userCoursePoseRepository.save(userCoursePose);
-
-            poseList.add(userCoursePose);
-        }
+        List<UserCoursePose> poseList = saveCoursePoses(userCourse, request.getPoses());
 
         userCourse.setUserCoursePoses(poseList);
 
@@ -153,6 +131,34 @@ public class UserCourseService {
 
         // UserCourse 삭제
         userCourseRepository.delete(userCourse);
+        // 코스 수가 줄었으므로 배지 집계값을 다시 로드하도록 제거
+        badgeEngine.evict(userId);
         return true;
     }
+
+    /**
+     * 요청한 포즈들을 한 번의 IN 쿼리로 조회한 뒤 코스 포즈를 saveAll로 배치 저장합니다.
+     * 없는 포즈가 하나라도 있으면 POSE_NOT_FOUND
+     */
+    private List<UserCoursePose> saveCoursePoses(UserCourse userCourse, List<CreateCourseRequest.PoseInfo> poseInfos) {
+        Map<Long, Pose> poses = poseRepository.findMapByIds(poseInfos.stream()
+                .map(CreateCourseRequest.PoseInfo::getPoseId)
+                .collect(Collectors.toSet()));
+
+        long now = System.currentTimeMillis();
+        List<UserCoursePose> poseList = new ArrayList<>(poseInfos.size());
+        for (CreateCourseRequest.PoseInfo poseInfo : poseInfos) {
+            Pose pose = poses.get(poseInfo.getPoseId());
+            if (pose == null) {
+                throw new CustomException(ErrorCode.POSE_NOT_FOUND);
+            }
+            UserCoursePose userCoursePose = new UserCoursePose();
+            userCoursePose.setUserCourse(userCourse);
+            userCoursePose.setPose(pose);
+            userCoursePose.setUserOrderIndex(poseInfo.getUserOrderIndex());
+            userCoursePose.setCreatedAt(now);
+            poseList.add(userCoursePose);
+        }
+        return userCoursePoseRepository.saveAll(poseList);
+    }
 }
@@ -0,0 +1,37 @@
+package com.red.yogaback.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 포즈 기록을 유저별/포즈별 최고 기록 집계에 반영 (단건, 배치 저장 공용)
+@Component
+@RequiredArgsConstructor
+public class UserPoseStatsWriter {
+
+    // (user_id, pose_id) 행이 없으면 생성, 있으면 최고값/횟수 갱신
+    private static final String UPSERT_SQL = "INSERT INTO user_pose_stats " +
+            "(user_id, pose_id, best_accuracy, best_time, win_count, attempt_count, last_played_at) " +
+            "VALUES (?, ?, ?, ?, ?, 1, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "best_accuracy = GREATEST(COALESCE(best_accuracy, 0), COALESCE(VALUES(best_accuracy), 0)), " +
+            "best_time = GREATEST(COALESCE(best_time, 0), COALESCE(VALUES(best_time), 0)), " +
+            "win_count = win_count + VALUES(win_count), " +
+            "attempt_count = attempt_count + 1, " +
+            "last_played_at = GREATEST(COALESCE(last_played_at, 0), VALUES(last_played_at))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void record(Long userId, Long poseId, Float accuracy, Float poseTime, boolean win, Long playedAt) {
+        jdbcTemplate.update(UPSERT_SQL, userId, poseId, accuracy, poseTime, win ? 1 : 0, playedAt);
+    }
+
+    /**
+     * @param rows {userId, poseId, accuracy, poseTime, win(0/1), playedAt}
+     */
+    public void recordAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+}
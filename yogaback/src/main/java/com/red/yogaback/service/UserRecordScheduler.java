@@ -1,21 +1,54 @@
 package com.red.yogaback.service;
 
-import com.red.yogaback.model.UserRecord;
 import com.red.yogaback.repository.UserRecordRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserRecordScheduler {
 
+    private static final String LOCK_NAME = "user-record-streak-reset";
+    // 작업이 비정상 종료되어도 이 시간이 지나면 다른 인스턴스가 락을 가져갈 수 있음
+    private static final long LOCK_AT_MOST_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
     private final UserRecordRepository userRecordRepository;
+    private final SchedulerLockManager schedulerLockManager;
+    private final int chunkSize;
+
+    private final Timer runTimer;
+    private final Counter resetCounter;
+    private final Counter chunkCounter;
+    private final Counter skippedCounter;
+
+    public UserRecordScheduler(UserRecordRepository userRecordRepository,
+                               SchedulerLockManager schedulerLockManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${user-record.streak-reset.chunk-size:5000}") int chunkSize) {
+        this.userRecordRepository = userRecordRepository;
+        this.schedulerLockManager = schedulerLockManager;
+        this.chunkSize = chunkSize;
+        this.runTimer = Timer.builder("user.record.streak.reset.duration")
+                .description("연속 운동 일수 초기화 작업 소요 시간")
+                .register(meterRegistry);
+        this.resetCounter = Counter.builder("user.record.streak.reset.rows")
+                .description("exConDays가 0으로 초기화된 UserRecord 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("user.record.streak.reset.chunks")
+                .description("실행된 UPDATE chunk 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("user.record.streak.reset.skipped")
+                .description("다른 인스턴스가 락을 잡고 있어 건너뛴 횟수")
+                .register(meterRegistry);
+    }
 
     /**
      * 매일 12시 1분(자정 12:01)에 실행하여,
@@ -26,39 +59,34 @@ public class UserRecordScheduler {
      * 2. currentExerciseDate가 어제, previousExerciseDate가 null 또는 어제보다 과거인 경우
      *
      * 이 외의 조합이면 연속 운동 기록(exConDays)을 0으로 초기화합니다.
+     * - 엔티티를 읽지 않고 userRecordId 범위별 bulk UPDATE로 실제로 바뀌는 행만 갱신합니다.
+     * - 여러 인스턴스 중 SchedulerLock을 획득한 하나만 실행합니다.
+     * - 연속 일수가 줄어드는 변경은 배지 레벨에 영향이 없으므로 배지 이벤트는 발행하지 않습니다.
      */
     @Scheduled(cron = "0 1 00 * * *")
     public void updateConsecutiveExerciseDays() {
+        if (!schedulerLockManager.tryLock(LOCK_NAME, LOCK_AT_MOST_MILLIS)) {
+            skippedCounter.increment();
+            return;
+        }
+        try {
+            runTimer.record(this::resetBrokenStreaks);
+        } finally {
+            schedulerLockManager.unlock(LOCK_NAME);
+        }
+    }
+
+    private void resetBrokenStreaks() {
         LocalDate today = LocalDate.now();
         LocalDate yesterday = today.minusDays(1);
-        List<UserRecord> userRecords = userRecordRepository.findAll();
-
-        for (UserRecord record : userRecords) {
-            // currentExerciseDate가 null이면 무시
-            if (record.getCurrentExerciseDate() == null) {
-                continue;
-            }
-            boolean valid = false;
-            LocalDate current = record.getCurrentExerciseDate();
-            LocalDate previous = record.getPreviousExerciseDate();
-            if (current.equals(today)) {
-                // 현재 운동 기록이 오늘일 경우, 이전 운동 기록이 어제이거나 null이면 유지
-                if (previous == null || previous.equals(yesterday)) {
-                    valid = true;
-                }
-            } else if (current.equals(yesterday)) {
-                // 현재 운동 기록이 어제일 경우, 이전 운동 기록이 null이거나 어제보다 과거이면 유지
-                if (previous == null || previous.isBefore(yesterday)) {
-                    valid = true;
-                }
-            }
-            if (!valid) {
-                record.setExConDays(0L);
-                log.info("User {}: currentExerciseDate={} and previousExerciseDate={} are not a valid consecutive combination. Reset exConDays to 0.",
-                        record.getUser().getUserId(), current, previous);
-            }
-            userRecordRepository.save(record);
-            log.info("Updated exConDays for userId {}: exConDays = {}", record.getUser().getUserId(), record.getExConDays());
+        long maxId = userRecordRepository.findMaxUserRecordId();
+        long resetRows = 0;
+        for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+            int updated = userRecordRepository.resetBrokenStreaks(fromId, Math.min(fromId + chunkSize, maxId), today, yesterday);
+            chunkCounter.increment();
+            resetCounter.increment(updated);
+            resetRows += updated;
         }
+        log.info("연속 운동 일수 초기화 완료: {}건 (maxUserRecordId = {}, chunk = {})", resetRows, maxId, chunkSize);
     }
 }
@@ -21,12 +21,16 @@ public class StompLoggingInterceptor implements ChannelInterceptor {
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         // 메시지 헤더에서 "simpMessageType" 값을 추출하여 로깅
+        // 시그널링 프레임마다 남지 않도록 DEBUG에서만 로깅
+        if (!logger.isDebugEnabled()) {
+            return message;
+        }
         Object command = message.getHeaders().get("simpMessageType");
-        logger.info("STOMP Message Type: {}", command);
+        logger.debug("STOMP Message Type: {}", command);
 
         // 메시지 페이로드가 null이 아닌 경우 로깅
         if (message.getPayload() != null) {
-            logger.info("Message Payload: {}", message.getPayload());
+            logger.debug("Message Payload: {}", message.getPayload());
         }
 
         // 개선방향:
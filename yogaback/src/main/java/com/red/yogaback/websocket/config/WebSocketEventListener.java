@@ -1,5 +1,6 @@
 package com.red.yogaback.websocket.config;
 
+import com.red.yogaback.websocket.controller.SignalingController;
 import com.red.yogaback.websocket.service.SocketRoomService;
 import com.red.yogaback.websocket.service.UserSession;
 import com.red.yogaback.websocket.service.UserSessionService;
@@ -47,6 +48,12 @@ public class WebSocketEventListener {
         String destination = headerAccessor.getDestination();
         logger.info("New subscription: {} for session: {}", destination, sessionId);
 
+        // 개별 시그널링 큐를 구독하면 offer/answer/ice_candidate를 이 세션으로만 전달
+        if (SignalingController.SIGNAL_QUEUE_SUBSCRIPTION.equals(destination)) {
+            userSessionService.markSignalSubscriber(sessionId);
+            return;
+        }
+
         // destination 이 "/topic/room/{roomId}" 패턴이면 처리
         if (destination != null && destination.matches("/topic/room/\\d+")) {
             String roomId = destination.substring(destination.lastIndexOf('/') + 1);
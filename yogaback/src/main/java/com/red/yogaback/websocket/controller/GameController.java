@@ -0,0 +1,63 @@
+package com.red.yogaback.websocket.controller;
+
+import com.red.yogaback.dto.request.ScoreMessage;
+import com.red.yogaback.service.GameSessionService;
+import com.red.yogaback.service.ScoreTicker;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.util.Map;
+
+@Controller
+@RequiredArgsConstructor
+public class GameController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameController.class);
+
+    private final GameSessionService gameSessionService;
+    private final ScoreTicker scoreTicker;
+
+    /**
+     * 클라이언트가 "/app/room/{roomId}/score"로 라운드 점수(ScoreMessage)를 보내면 서버 순위표에 반영합니다.
+     * 점수의 주인은 메시지의 userId가 아니라 CONNECT 시 인증된 세션 사용자이며, 그 방의 게임 참가자가 아니면 무시합니다.
+     */
+    @MessageMapping("/room/{roomId}/score")
+    public void submitScore(@DestinationVariable Long roomId,
+                            @Payload ScoreMessage scoreMessage,
+                            StompHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        Object userId = attributes == null ? null : attributes.get("userId");
+        if (userId == null) {
+            logger.warn("인증 정보 없는 점수 메시지 무시: roomId = {}, session = {}", roomId, headerAccessor.getSessionId());
+            return;
+        }
+        if (!gameSessionService.submitScore(roomId, Long.valueOf(userId.toString()), scoreMessage)) {
+            logger.debug("점수 반영 안 됨: roomId = {}, userId = {}, round = {}",
+                    roomId, userId, scoreMessage.getRoundIndex());
+        }
+    }
+
+    /**
+     * 클라이언트가 "/app/room/{roomId}/tick"으로 보내는 고빈도 실시간 점수.
+     * 사용자별 최신 값만 남겨 두었다가 ScoreTicker가 정해진 주기로 방 전체에 한 번에 보냅니다.
+     */
+    @MessageMapping("/room/{roomId}/tick")
+    public void tickScore(@DestinationVariable Long roomId,
+                          @Payload ScoreMessage scoreMessage,
+                          StompHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        Object userId = attributes == null ? null : attributes.get("userId");
+        if (userId == null) {
+            return;
+        }
+        if (!scoreTicker.ingest(roomId, Long.valueOf(userId.toString()), scoreMessage)) {
+            logger.debug("점수 틱 슬롯 부족: roomId = {}, userId = {}", roomId, userId);
+        }
+    }
+}
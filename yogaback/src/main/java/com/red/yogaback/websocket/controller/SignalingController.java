@@ -1,85 +1,128 @@
 package com.red.yogaback.websocket.controller;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.red.yogaback.model.Room;
-import com.red.yogaback.repository.RoomRepository;
-import com.red.yogaback.websocket.dto.RoomActionMessage;
+import com.red.yogaback.service.GameSessionService;
+import com.red.yogaback.service.RoomRegistry;
+import com.red.yogaback.websocket.dto.SignalFrame;
+import com.red.yogaback.websocket.dto.SignalType;
+import com.red.yogaback.websocket.service.IceCandidateCoalescer;
+import com.red.yogaback.websocket.service.SignalFrameReader;
+import com.red.yogaback.websocket.service.SignalRelay;
+import com.red.yogaback.websocket.service.SignalingMetrics;
+import com.red.yogaback.websocket.service.UserSessionService;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.Map;
 
 @Controller
+@RequiredArgsConstructor
 public class SignalingController {
 
     private static final Logger logger = LoggerFactory.getLogger(SignalingController.class);
 
-    @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    // 클라이언트가 구독하는 개별 시그널링 큐 (세션별 /queue/signal-user{sessionId}로 변환됨)
+    public static final String SIGNAL_QUEUE_SUBSCRIPTION = "/user/queue/signal";
 
-    @Autowired
-    private RoomRepository roomRepository;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SignalFrameReader signalFrameReader;
+    private final SignalRelay signalRelay;
+    private final IceCandidateCoalescer iceCandidateCoalescer;
+    private final SignalingMetrics signalingMetrics;
+    private final RoomRegistry roomRegistry;
+    private final GameSessionService gameSessionService;
+    private final UserSessionService userSessionService;
 
     /**
      * 클라이언트가 "/app/room/{roomId}"로 메시지를 전송하면
-     * 1) payload를 "/topic/room/{roomId}"로 브로드캐스트
-     * 2) game_state & state==0 인 경우 DB의 roomState를 0으로 변경
+     * 1) offer/answer/ice_candidate는 수신자(signal-to 헤더 또는 toPeerId)가 /user/queue/signal 을
+     *    구독 중이면 그 세션에만 전달하고, 그 외 메시지는 "/topic/room/{roomId}"로 브로드캐스트
+     *    (payload 바이트는 재인코딩하지 않고 signal-type 헤더를 함께 전달, ICE 후보는 짧은 구간 단위로 묶어 전달)
+     * 2) game_state는 보낸 사용자가 그 방 참가자일 때만 GameSessionService에 반영하고, state==0(게임 시작)이면 방을 닫음 (DB 반영은 RoomRegistry가 배치로 처리)
+     *
+     * "signal-type" 헤더를 보내는 클라이언트는 payload만 본문으로 보내면 되고,
+     * 헤더가 없으면 기존 {"payload": ...} 형식으로 판독합니다.
      */
     @MessageMapping("/room/{roomId}")
-    @Transactional
     public void broadcastRoomMessage(@DestinationVariable String roomId,
-                                     @Payload RoomActionMessage actionMessage,
+                                     @Payload byte[] body,
+                                     @Header(name = SignalType.HEADER, required = false) String signalType,
+                                     @Header(name = SignalFrameReader.STATE_HEADER, required = false) String gameState,
+                                     @Header(name = SignalFrameReader.TARGET_HEADER, required = false) String signalTo,
                                      StompHeaderAccessor headerAccessor) {
-        Object payload = actionMessage.getPayload();
         String sessionId = headerAccessor.getSessionId();
-
-        // 1) 받은 payload 그대로 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, payload);
-        logger.info("Broadcasted to /topic/room/{} from session {}: {}", roomId, sessionId, payload);
-
-        // 2) payload를 Map<String,Object> 로 변환 (POJO, Map, JSON 문자열 모두 처리)
-        Map<String,Object> map;
+        boolean senderInRoom = isSenderInRoom(roomId, headerAccessor);
+        // 방 태그는 클라이언트가 보낸 문자열이므로 참가자가 확인된 방만 집계 (태그 수 제한)
+        if (senderInRoom) {
+            signalingMetrics.inbound(roomId);
+        }
+        SignalFrame frame;
         try {
-            map = objectMapper.convertValue(
-                    payload,
-                    new TypeReference<Map<String,Object>>() {}
-            );
-        } catch (IllegalArgumentException e) {
-            logger.warn("Payload를 Map으로 변환 실패, state 체크 생략: {}", payload, e);
+            frame = signalFrameReader.read(body, signalType, gameState, signalTo);
+        } catch (IOException e) {
+            logger.warn("방 메시지 판독 실패, 중계 생략: roomId = {}, session = {}", roomId, sessionId, e);
             return;
         }
+        if (frame == null) {
+            logger.debug("중계할 payload 없음: roomId = {}, session = {}", roomId, sessionId);
+            return;
+        }
+
+        // 게임 진행 메시지는 그 방 참가자만 보낼 수 있음 (다른 방의 게임을 끝내거나 닫지 못하게)
+        Long gameRoomId = null;
+        if (frame.getType() == SignalType.GAME_STATE) {
+            gameRoomId = parseRoomId(roomId);
+            if (gameRoomId == null || !senderInRoom) {
+                logger.warn("방 참가자가 아닌 game_state 무시: roomId = {}, session = {}", roomId, sessionId);
+                return;
+            }
+        }
+
+        // 1) 협상 메시지는 상대 세션으로만, 나머지는 방 전체로
+        String targetSessionId = frame.getTarget() == null
+                ? null
+                : userSessionService.findSignalSessionId(roomId, frame.getTarget());
+        if (targetSessionId != null && frame.getType() == SignalType.ICE) {
+            iceCandidateCoalescer.offer(roomId, sessionId, targetSessionId, frame.payloadBytes());
+        } else if (targetSessionId != null) {
+            iceCandidateCoalescer.flushPending(sessionId, targetSessionId);
+            signalRelay.toSession(roomId, targetSessionId, frame.getType(), frame.payloadBytes(), 1);
+            logger.debug("Sent {} to user {} in room {} from session {} ({} bytes)",
+                    frame.getType(), frame.getTarget(), roomId, sessionId, frame.getLength());
+        } else {
+            signalRelay.toRoom(roomId, frame.getType(), frame.payloadBytes());
+            logger.debug("Broadcasted {} to /topic/room/{} from session {} ({} bytes)",
+                    frame.getType(), roomId, sessionId, frame.getLength());
+        }
 
-        // 3) type, state 추출
-        String type = (String) map.get("type");
-        Integer state = null;
-        Object stateObj = map.get("state");
-        if (stateObj instanceof Number) {
-            state = ((Number) stateObj).intValue();
-        } else if (stateObj instanceof String) {
-            try {
-                state = Integer.parseInt((String) stateObj);
-            } catch (NumberFormatException ignored) {}
+        // 2) 게임 상태 전이 반영 (시작되면 방을 닫아 더 이상 입장할 수 없게 함)
+        if (gameRoomId != null && frame.getState() != null) {
+            gameSessionService.onGameState(gameRoomId, frame.getState());
+            if (frame.getState() == GameSessionService.STATE_START) {
+                roomRegistry.close(gameRoomId);
+                logger.info("Room {} 게임 시작 메시지 수신, 방을 닫습니다.", roomId);
+            }
         }
+    }
 
-        // 4) game_state && state == 0 이면 DB 업데이트
-        if ("game_state".equals(type) && state != null && state == 0) {
-            Long rid = Long.valueOf(roomId);
-            roomRepository.findById(rid).ifPresent(room -> {
-                room.setRoomState(0L);
-                roomRepository.save(room);
-                logger.info("Room {} 의 roomState를 0으로 변경했습니다.", roomId);
-            });
+    // CONNECT 시 인증된 세션 사용자가 지금 이 방에 접속해 있는지
+    private boolean isSenderInRoom(String roomId, StompHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        Object userId = attributes == null ? null : attributes.get("userId");
+        return userId != null && userSessionService.isInRoom(roomId, userId.toString());
+    }
+
+    private static Long parseRoomId(String roomId) {
+        try {
+            return Long.valueOf(roomId);
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 }
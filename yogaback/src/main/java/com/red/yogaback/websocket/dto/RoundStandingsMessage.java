@@ -0,0 +1,30 @@
+package com.red.yogaback.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서버가 방 채널로 보내는 라운드 순위(round_standings) / 최종 결과(game_result)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RoundStandingsMessage {
+    private String type;
+    private Integer roundIndex;          // game_result면 null
+    private List<Standing> standings;    // 라운드 점수(game_result면 누적 점수) 순
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Standing {
+        private String userId;
+        private int score;          // 이 라운드 점수 (game_result면 누적 점수)
+        private int rank;
+        private int totalScore;     // 누적 점수
+        private int totalRank;      // 누적 순위
+    }
+}
@@ -0,0 +1,26 @@
+package com.red.yogaback.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서버가 방 채널로 주기적으로 보내는 실시간 점수 순위 (score_tick)
+ * - 구간 동안 사용자별 마지막 값만 담아 점수 내림차순으로 보냅니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ScoreTickMessage {
+    private String type;
+    private int roundIndex;
+    private List<Entry> scores;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private String userId;
+        private int score;
+        private double duration;
+    }
+}
@@ -0,0 +1,29 @@
+package com.red.yogaback.websocket.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수신 본문에서 중계할 payload 구간과 분기에 필요한 값만 뽑아 둔 결과
+ * (payload 자체는 복사/재인코딩하지 않고 원본 바이트의 offset/length로만 가리킴)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SignalFrame {
+    private final SignalType type;
+    private final Integer state;     // game_state 메시지의 state 값, 없으면 null
+    private final String target;     // offer/answer/ice_candidate의 수신자 userId(toPeerId), 없으면 null
+    private final byte[] body;       // 수신한 원본 바이트
+    private final int offset;        // body 안에서 payload 시작 위치
+    private final int length;        // payload 길이
+
+    // 중계할 payload 바이트 (본문 전체가 payload이면 복사하지 않음)
+    public byte[] payloadBytes() {
+        if (offset == 0 && length == body.length) {
+            return body;
+        }
+        byte[] payload = new byte[length];
+        System.arraycopy(body, offset, payload, 0, length);
+        return payload;
+    }
+}
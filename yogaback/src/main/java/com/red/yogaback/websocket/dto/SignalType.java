@@ -0,0 +1,58 @@
+package com.red.yogaback.websocket.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 방 채널(/app/room/{roomId})로 오가는 메시지 종류
+ *
+ * 클라이언트는 STOMP 헤더 "signal-type"에 wire 값을 실어 보내고,
+ * 서버는 본문을 파싱하지 않고 이 값으로 분기합니다.
+ */
+public enum SignalType {
+    OFFER("offer"),
+    ANSWER("answer"),
+    ICE("ice_candidate"),
+    SCORE("score_update"),
+    GAME_STATE("game_state"),
+    // 서버가 보내는 라운드 순위 / 최종 결과 (GameSessionService)
+    ROUND_STANDINGS("round_standings"),
+    GAME_RESULT("game_result"),
+    // 서버가 주기적으로 보내는 실시간 점수 순위 (ScoreTicker)
+    SCORE_TICK("score_tick"),
+    // 그 밖의 클라이언트 정의 메시지 (그대로 중계)
+    OTHER("other");
+
+    public static final String HEADER = "signal-type";
+
+    private static final Map<String, SignalType> BY_WIRE = new HashMap<>();
+
+    static {
+        for (SignalType type : values()) {
+            BY_WIRE.put(type.wire, type);
+        }
+    }
+
+    private final String wire;
+
+    SignalType(String wire) {
+        this.wire = wire;
+    }
+
+    // 특정 상대에게만 전달하면 되는 WebRTC 협상 메시지
+    public boolean isPeerToPeer() {
+        return this == OFFER || this == ANSWER || this == ICE;
+    }
+
+    public String getWire() {
+        return wire;
+    }
+
+    // 알 수 없거나 없는 값은 OTHER
+    public static SignalType fromWire(String wire) {
+        if (wire == null) {
+            return OTHER;
+        }
+        return BY_WIRE.getOrDefault(wire, OTHER);
+    }
+}
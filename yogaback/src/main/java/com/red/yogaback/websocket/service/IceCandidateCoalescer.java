@@ -0,0 +1,148 @@
+package com.red.yogaback.websocket.service;
+
+import com.red.yogaback.global.DaemonThreads;
+import com.red.yogaback.websocket.dto.SignalType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// ICE 후보 묶음 전송: (보낸 세션, 받는 세션) 쌍마다 flush-interval-ms 동안 모아 한 프레임으로 보냄
+@Slf4j
+@Component
+public class IceCandidateCoalescer {
+
+    private final SignalRelay signalRelay;
+    private final SignalingMetrics signalingMetrics;
+    private final long flushIntervalMillis;
+    private final int maxBatch;
+
+    private final ConcurrentHashMap<String, Batch> batches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler;
+
+    public IceCandidateCoalescer(SignalRelay signalRelay,
+                                 SignalingMetrics signalingMetrics,
+                                 @Value("${signaling.ice.flush-interval-ms:20}") long flushIntervalMillis,
+                                 @Value("${signaling.ice.max-batch:16}") int maxBatch) {
+        this.signalRelay = signalRelay;
+        this.signalingMetrics = signalingMetrics;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatch = maxBatch;
+        this.flushScheduler = DaemonThreads.scheduled("ice-coalesce");
+    }
+
+    public void offer(String roomId, String senderSessionId, String targetSessionId, byte[] candidate) {
+        if (flushIntervalMillis <= 0 || maxBatch <= 1) {
+            send(roomId, targetSessionId, List.of(candidate));
+            return;
+        }
+        String key = senderSessionId + "->" + targetSessionId;
+        while (true) {
+            Batch batch = batches.computeIfAbsent(key, k -> new Batch(roomId, targetSessionId));
+            List<byte[]> full = null;
+            synchronized (batch) {
+                if (batch.flushed) {
+                    // 방금 전송된 묶음이면 새 묶음으로 다시 시도
+                    continue;
+                }
+                batch.candidates.add(candidate);
+                if (batch.candidates.size() == 1) {
+                    flushScheduler.schedule(() -> flush(key, batch), flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+                if (batch.candidates.size() >= maxBatch) {
+                    full = close(key, batch);
+                }
+            }
+            if (full != null) {
+                send(roomId, targetSessionId, full);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 같은 쌍으로 다른 종류의 메시지(offer/answer)를 보내기 전에 대기 중인 후보를 먼저 보냅니다. (순서 보장)
+     */
+    public void flushPending(String senderSessionId, String targetSessionId) {
+        String key = senderSessionId + "->" + targetSessionId;
+        Batch batch = batches.get(key);
+        if (batch != null) {
+            flush(key, batch);
+        }
+    }
+
+    private void flush(String key, Batch batch) {
+        List<byte[]> candidates;
+        synchronized (batch) {
+            if (batch.flushed) {
+                return;
+            }
+            candidates = close(key, batch);
+        }
+        try {
+            send(batch.roomId, batch.targetSessionId, candidates);
+        } catch (RuntimeException e) {
+            log.warn("ICE 후보 묶음 전송 실패: roomId = {}, target = {}", batch.roomId, batch.targetSessionId, e);
+        }
+    }
+
+    // lock: batch
+    private List<byte[]> close(String key, Batch batch) {
+        batch.flushed = true;
+        batches.remove(key, batch);
+        return batch.candidates;
+    }
+
+    private void send(String roomId, String targetSessionId, List<byte[]> candidates) {
+        signalingMetrics.iceBatch(candidates.size());
+        if (candidates.size() == 1) {
+            signalRelay.toSession(roomId, targetSessionId, SignalType.ICE, candidates.get(0), 1);
+            return;
+        }
+        signalRelay.toSession(roomId, targetSessionId, SignalType.ICE, toJsonArray(candidates), candidates.size());
+    }
+
+    // 각 payload는 이미 완성된 JSON 값이므로 '[', ',', ']'만 덧붙임
+    private byte[] toJsonArray(List<byte[]> candidates) {
+        int length = 1 + candidates.size();
+        for (byte[] candidate : candidates) {
+            length += candidate.length;
+        }
+        byte[] array = new byte[length];
+        int position = 0;
+        array[position++] = '[';
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i > 0) {
+                array[position++] = ',';
+            }
+            byte[] candidate = candidates.get(i);
+            System.arraycopy(candidate, 0, array, position, candidate.length);
+            position += candidate.length;
+        }
+        array[position] = ']';
+        return array;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdownNow();
+    }
+
+    private static class Batch {
+        private final String roomId;
+        private final String targetSessionId;
+        private final List<byte[]> candidates = new ArrayList<>();
+        private boolean flushed;
+
+        private Batch(String roomId, String targetSessionId) {
+            this.roomId = roomId;
+            this.targetSessionId = targetSessionId;
+        }
+    }
+}
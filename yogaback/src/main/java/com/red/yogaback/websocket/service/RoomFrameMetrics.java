@@ -0,0 +1,72 @@
+package com.red.yogaback.websocket.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방 채널 프레임 카운터 ({name}{room, direction}): 한동안 쓰이지 않은 방의 카운터는 레지스트리에서 제거
+@Component
+public class RoomFrameMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final long idleEvictMillis;
+    private final ConcurrentHashMap<String, RoomMeters> rooms = new ConcurrentHashMap<>();
+
+    public RoomFrameMetrics(MeterRegistry meterRegistry,
+                            @Value("${signaling.metrics.idle-evict-ms:60000}") long idleEvictMillis) {
+        this.meterRegistry = meterRegistry;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    public void inbound(String name, String roomId) {
+        meters(name, roomId).in.increment();
+    }
+
+    public void outbound(String name, String roomId) {
+        meters(name, roomId).out.increment();
+    }
+
+    // 제거 판단과 같은 키 잠금 안에서 사용 시각을 갱신하므로 방금 꺼낸 카운터는 제거되지 않음
+    private RoomMeters meters(String name, String roomId) {
+        long now = System.currentTimeMillis();
+        return rooms.compute(name + '|' + roomId, (key, meters) -> {
+            if (meters == null) {
+                meters = new RoomMeters(
+                        Counter.builder(name).tag("room", roomId).tag("direction", "in").register(meterRegistry),
+                        Counter.builder(name).tag("room", roomId).tag("direction", "out").register(meterRegistry));
+            }
+            meters.lastUsed = now;
+            return meters;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${signaling.metrics.idle-evict-ms:60000}")
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        for (String key : rooms.keySet()) {
+            rooms.computeIfPresent(key, (k, meters) -> {
+                if (now - meters.lastUsed <= idleEvictMillis) {
+                    return meters;
+                }
+                meterRegistry.remove(meters.in);
+                meterRegistry.remove(meters.out);
+                return null;
+            });
+        }
+    }
+
+    private static class RoomMeters {
+        private final Counter in;
+        private final Counter out;
+        private long lastUsed;   // lock: rooms의 키
+
+        private RoomMeters(Counter in, Counter out) {
+            this.in = in;
+            this.out = out;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.red.yogaback.websocket.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.red.yogaback.websocket.dto.SignalFrame;
+import com.red.yogaback.websocket.dto.SignalType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 방 채널 메시지 판독: signal-type 헤더가 있으면 본문 전체가 payload, 없으면 기존 {"payload": ...} 본문을 스트리밍으로 훑음
+@Component
+public class SignalFrameReader {
+
+    public static final String STATE_HEADER = "game-state";
+    public static final String TARGET_HEADER = "signal-to";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * @return 중계할 payload가 없으면 null
+     */
+    public SignalFrame read(byte[] body, String typeHeader, String stateHeader, String targetHeader)
+            throws IOException {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        if (typeHeader != null) {
+            SignalType type = SignalType.fromWire(typeHeader);
+            Integer state = null;
+            if (type == SignalType.GAME_STATE) {
+                state = stateHeader != null ? parseState(stateHeader) : scanState(body);
+            }
+            String target = type.isPeerToPeer() ? targetHeader : null;
+            return new SignalFrame(type, state, target, body, 0, body.length);
+        }
+        return readEnvelope(body);
+    }
+
+    // 기존 형식: {"payload": {...}}
+    private SignalFrame readEnvelope(byte[] body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"payload".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                int start = (int) parser.currentTokenLocation().getByteOffset();
+                String type = null;
+                Integer state = null;
+                String target = null;
+                if (value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        JsonToken token = parser.nextToken();
+                        if ("type".equals(name) && token == JsonToken.VALUE_STRING) {
+                            type = parser.getText();
+                        } else if ("state".equals(name)) {
+                            state = readState(parser, token);
+                        } else if ("toPeerId".equals(name) && token == JsonToken.VALUE_STRING) {
+                            target = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if (value == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else {
+                    parser.finishToken();
+                }
+                int end = (int) parser.currentLocation().getByteOffset();
+                SignalType signalType = SignalType.fromWire(type);
+                return new SignalFrame(signalType,
+                        signalType == SignalType.GAME_STATE ? state : null,
+                        signalType.isPeerToPeer() ? target : null,
+                        body, start, end - start);
+            }
+            return null;
+        }
+    }
+
+    // 본문 최상위 객체의 state 필드만 찾음
+    private Integer scanState(byte[] body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("state".equals(name)) {
+                    return readState(parser, token);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    // 숫자/문자열 모두 허용
+    private Integer readState(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return parseState(parser.getText());
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private Integer parseState(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
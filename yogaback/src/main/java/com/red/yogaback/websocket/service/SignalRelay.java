@@ -0,0 +1,56 @@
+package com.red.yogaback.websocket.service;
+
+import com.red.yogaback.websocket.dto.SignalType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 시그널링 payload 바이트를 재인코딩 없이 브로커로 보내는 송신부
+ * (방 전체 브로드캐스트와 세션 개별 큐 전달 모두 signal-type 헤더를 함께 전달)
+ */
+@Component
+@RequiredArgsConstructor
+public class SignalRelay {
+
+    // 묶음 프레임일 때 본문(JSON 배열)에 담긴 메시지 수
+    public static final String BATCH_HEADER = "signal-batch";
+    private static final String SIGNAL_QUEUE = "/queue/signal";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SignalingMetrics signalingMetrics;
+
+    public void toRoom(String roomId, SignalType type, byte[] payload) {
+        messagingTemplate.send("/topic/room/" + roomId,
+                MessageBuilder.createMessage(payload, headers(type).getMessageHeaders()));
+        signalingMetrics.outbound(roomId);
+    }
+
+    /**
+     * 세션의 /user/queue/signal 로 전달합니다.
+     * @param batchSize 1보다 크면 payload는 메시지들의 JSON 배열
+     */
+    public void toSession(String roomId, String sessionId, SignalType type, byte[] payload, int batchSize) {
+        SimpMessageHeaderAccessor accessor = headers(type);
+        if (batchSize > 1) {
+            accessor.setNativeHeader(BATCH_HEADER, String.valueOf(batchSize));
+        }
+        // 세션 ID를 사용자명 자리에 두면 Principal 없이도 해당 세션의 큐로 변환됨
+        accessor.setSessionId(sessionId);
+        messagingTemplate.send("/user/" + sessionId + SIGNAL_QUEUE,
+                MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        signalingMetrics.outbound(roomId);
+    }
+
+    private SimpMessageHeaderAccessor headers(SignalType type) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(SignalType.HEADER, type.getWire());
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
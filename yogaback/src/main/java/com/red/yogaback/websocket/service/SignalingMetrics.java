@@ -0,0 +1,41 @@
+package com.red.yogaback.websocket.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// 방 채널 시그널링 지표 (방별 수신/송신 프레임 수, ICE 묶음 크기)
+@Component
+public class SignalingMetrics {
+
+    private static final String FRAMES = "signaling.frames";
+
+    private final RoomFrameMetrics roomFrameMetrics;
+    private final UserSessionService userSessionService;
+    private final DistributionSummary iceBatchSize;
+
+    public SignalingMetrics(MeterRegistry meterRegistry,
+                            RoomFrameMetrics roomFrameMetrics,
+                            UserSessionService userSessionService) {
+        this.roomFrameMetrics = roomFrameMetrics;
+        this.userSessionService = userSessionService;
+        this.iceBatchSize = DistributionSummary.builder("signaling.ice.batch.size")
+                .description("한 프레임으로 묶여 전달된 ICE 후보 수")
+                .register(meterRegistry);
+    }
+
+    public void inbound(String roomId) {
+        roomFrameMetrics.inbound(FRAMES, roomId);
+    }
+
+    // 접속 중인 세션이 있는 방만 집계 (존재하지 않는 방 id마다 카운터가 생기지 않도록)
+    public void outbound(String roomId) {
+        if (userSessionService.hasUsers(roomId)) {
+            roomFrameMetrics.outbound(FRAMES, roomId);
+        }
+    }
+
+    public void iceBatch(int candidates) {
+        iceBatchSize.record(candidates);
+    }
+}
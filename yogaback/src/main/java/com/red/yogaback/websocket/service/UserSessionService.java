@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
@@ -15,6 +16,12 @@ public class UserSessionService {
     // sessionId -> UserSession 매핑 (동시성 보장 위해 ConcurrentHashMap 사용)
     private final Map<String, UserSession> sessions = new ConcurrentHashMap<>();
 
+    // roomId -> (userId -> sessionId) 역색인: 방 안의 특정 사용자에게 시그널링을 보낼 때 사용
+    private final Map<String, Map<String, String>> roomUserSessions = new ConcurrentHashMap<>();
+
+    // /user/queue/signal 을 구독한 세션 (개별 전달을 받을 수 있는 클라이언트)
+    private final Set<String> signalSubscribers = ConcurrentHashMap.newKeySet();
+
     /**
      * 새로운 세션을 등록합니다.
      *
@@ -26,7 +33,11 @@ public class UserSessionService {
      *  - 세션 수명 주기(만료 시간) 관리가 필요하다면, 타임아웃 스케줄러나 만료 검사 로직을 추가할 수 있습니다.
      */
     public void addSession(String sessionId, UserSession userSession) {
-        sessions.put(sessionId, userSession);
+        UserSession previous = sessions.put(sessionId, userSession);
+        if (previous != null) {
+            unindex(sessionId, previous);
+        }
+        index(sessionId, userSession);
         logger.info("Session added: {} for user {}", sessionId, userSession.getUserId());
     }
 
@@ -54,10 +65,71 @@ public class UserSessionService {
      *  - 제거 이벤트를 발행하여 다른 컴포넌트가 후속 처리를 할 수 있도록 할 수 있습니다.
      */
     public void removeSession(String sessionId) {
-        sessions.remove(sessionId);
+        UserSession removed = sessions.remove(sessionId);
+        if (removed != null) {
+            unindex(sessionId, removed);
+        }
+        signalSubscribers.remove(sessionId);
         logger.info("Session removed: {}", sessionId);
     }
 
+    // 세션이 개별 시그널링 큐(/user/queue/signal)를 구독했음을 표시
+    public void markSignalSubscriber(String sessionId) {
+        if (sessions.containsKey(sessionId)) {
+            signalSubscribers.add(sessionId);
+        }
+    }
+
+    /**
+     * 방 안의 사용자에게 개별 전달할 세션 ID를 조회합니다.
+     *
+     * @return 해당 사용자가 방에 있고 /user/queue/signal 을 구독 중이면 세션 ID, 아니면 null
+     */
+    public String findSignalSessionId(String roomId, String userId) {
+        Map<String, String> users = roomUserSessions.get(roomId);
+        if (users == null) {
+            return null;
+        }
+        String sessionId = users.get(userId);
+        return sessionId != null && signalSubscribers.contains(sessionId) ? sessionId : null;
+    }
+
+    // 이 방에 접속 중인 세션이 하나라도 있는지
+    public boolean hasUsers(String roomId) {
+        return roomUserSessions.containsKey(roomId);
+    }
+
+    // 사용자가 지금 이 방에 접속해 있는지
+    public boolean isInRoom(String roomId, String userId) {
+        Map<String, String> users = roomUserSessions.get(roomId);
+        return users != null && users.containsKey(userId);
+    }
+
+    // 방에 접속 중인 사용자 ID 목록
+    public Set<String> roomUserIds(String roomId) {
+        Map<String, String> users = roomUserSessions.get(roomId);
+        return users == null ? Set.of() : Set.copyOf(users.keySet());
+    }
+
+    private void index(String sessionId, UserSession userSession) {
+        if (userSession.getRoomId() == null || userSession.getRoomId().isEmpty()) {
+            return;
+        }
+        roomUserSessions.computeIfAbsent(userSession.getRoomId(), id -> new ConcurrentHashMap<>())
+                .put(userSession.getUserId(), sessionId);
+    }
+
+    private void unindex(String sessionId, UserSession userSession) {
+        if (userSession.getRoomId() == null || userSession.getRoomId().isEmpty()) {
+            return;
+        }
+        // 같은 사용자가 다른 세션으로 다시 들어온 경우 새 매핑은 지우지 않음
+        roomUserSessions.computeIfPresent(userSession.getRoomId(), (id, users) -> {
+            users.remove(userSession.getUserId(), sessionId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
     /*
      * 추가 개선방향:
      * 1. 동시성 사용 통계 수집:
@@ -0,0 +1,83 @@
+package com.red.yogaback.repository;
+
+import com.red.yogaback.model.Badge;
+import com.red.yogaback.model.User;
+import com.red.yogaback.model.UserBadge;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테이블 기반 id + hibernate.jdbc.batch_size 적용 시 INSERT 문장 수 확인 (IDENTITY면 행마다 1문장)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batch-insert;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserBadgeBatchInsertTest {
+
+    private static final int ROWS = 200;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private UserBadgeRepository userBadgeRepository;
+
+    @Test
+    void 유저배지_배치_INSERT_문장수_테스트() {
+        // given
+        User user = userRepository.save(User.builder().userLoginId("bench").userName("bench").build());
+        // (user_id, badge_id) 유니크 키가 있으므로 행마다 다른 배지
+        List<Badge> badges = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            badges.add(badgeRepository.save(Badge.builder().badgeName("bench-" + i).badgeMaxLv(3).build()));
+        }
+        entityManager.flush();
+
+        List<UserBadge> userBadges = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            userBadges.add(UserBadge.builder()
+                    .user(user)
+                    .badge(badges.get(i))
+                    .highLevel(1)
+                    .progress(i)
+                    .isNew(true)
+                    .createdAt(System.currentTimeMillis())
+                    .build());
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        userBadgeRepository.saveAll(userBadges);
+        entityManager.flush();
+
+        // then: INSERT는 50행 단위 배치 4번 + id 블록 조회 몇 번
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statements)
+                .as("user_badge %d행 저장 PreparedStatement 수 (IDENTITY 기준 %d개)", ROWS, ROWS)
+                .isLessThanOrEqualTo(ROWS / 10);
+        assertThat(userBadgeRepository.count()).isEqualTo(ROWS);
+    }
+}
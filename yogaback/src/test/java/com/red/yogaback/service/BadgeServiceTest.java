@@ -1,6 +1,7 @@
 package com.red.yogaback.service;
 
 import com.red.yogaback.constant.BadgeType;
+import com.red.yogaback.dto.projection.UserBadgeRow;
 import com.red.yogaback.dto.respond.BadgeListRes;
 import com.red.yogaback.dto.respond.UserInfoRes;
 import com.red.yogaback.model.*;
@@ -37,6 +38,9 @@ class BadgeServiceTest {
     @Mock
     private BadgeRepository badgeRepository;
 
+    @Mock
+    private BadgeCatalog badgeCatalog;
+
     @Mock
     private UserBadgeRepository userBadgeRepository;
 
@@ -59,41 +63,14 @@ class BadgeServiceTest {
     void 배지목록요청_테스트() {
 
         // given
-        Badge badge1 = Badge.builder()
-                .badgeId(1L)
-                .badgeName("testBadge")
-                .badgeMaxLv(3)
-                .badgeDetails(List.of())
-                .userBadges(List.of())
-                .build();
-
-
-        Badge badge2 = Badge.builder()
-                .badgeId(2L)
-                .badgeName("testBadge2")
-                .badgeMaxLv(3)
-                .badgeDetails(List.of())
-                .userBadges(List.of())
-                .build();
-
-
-        List<Badge> badges = List.of(badge1, badge2);
-
-        UserBadge userBadge = UserBadge.builder()
-                .userBadgeId(1L)
-                .user(user)
-                .badge(badge1)
-                .isNew(false)
-                .progress(50)
-                .highLevel(2)
-                .createdAt(System.currentTimeMillis())
-                .build();
+        BadgeCatalog.Entry badge1 = new BadgeCatalog.Entry(1L, "testBadge", 3, List.of());
+        BadgeCatalog.Entry badge2 = new BadgeCatalog.Entry(2L, "testBadge2", 3, List.of());
 
-        List<UserBadge> userBadges = List.of(userBadge);
+        List<UserBadgeRow> userBadges = List.of(new UserBadgeRow(1L, 50, 2));
 
         when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
-        when(userBadgeRepository.findByUser(user)).thenReturn(userBadges);
-        when(badgeRepository.findAll()).thenReturn(badges);
+        when(userBadgeRepository.findBadgeRowsByUserId(user.getUserId())).thenReturn(userBadges);
+        when(badgeCatalog.getBadges()).thenReturn(List.of(badge1, badge2));
 
         // when
         List<BadgeListRes> result = badgeService.getBadgeList(user.getUserId());
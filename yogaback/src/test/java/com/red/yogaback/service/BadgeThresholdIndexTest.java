@@ -0,0 +1,40 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.BadgeMetric;
+import com.red.yogaback.constant.BadgeType;
+import com.red.yogaback.dto.respond.BadgeListRes;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BadgeThresholdIndexTest {
+
+    private BadgeListRes.BadgeDetailRes detail(int level, int goal) {
+        return new BadgeListRes.BadgeDetailRes((long) level, "detail" + level, null, null, goal, level);
+    }
+
+    @Test
+    void 목표값_기준_레벨_조회_테스트() {
+        // given
+        BadgeCatalog.Entry accuracy = new BadgeCatalog.Entry(6L, "요가의 달인", 3,
+                List.of(detail(3, 90), detail(1, 70), detail(2, 80)));
+        BadgeThresholdIndex index = new BadgeThresholdIndex(List.of(accuracy));
+
+        // then
+        assertThat(index.levelFor(BadgeType.YOGA_ACCURACY, 69)).isEqualTo(0);
+        assertThat(index.levelFor(BadgeType.YOGA_ACCURACY, 70)).isEqualTo(1);
+        assertThat(index.levelFor(BadgeType.YOGA_ACCURACY, 85)).isEqualTo(2);
+        assertThat(index.levelFor(BadgeType.YOGA_ACCURACY, 100)).isEqualTo(3);
+        assertThat(index.badgesFor(BadgeMetric.MAX_ACCURACY)).containsExactly(BadgeType.YOGA_ACCURACY);
+    }
+
+    @Test
+    void 카탈로그에_없는_배지는_미달성_테스트() {
+        BadgeThresholdIndex index = new BadgeThresholdIndex(List.of());
+
+        assertThat(index.levelFor(BadgeType.ROOM_WINS, 10)).isEqualTo(0);
+        assertThat(index.badgesFor(BadgeMetric.ROOM_WINS)).isEmpty();
+    }
+}
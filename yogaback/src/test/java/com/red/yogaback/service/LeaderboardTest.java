@@ -0,0 +1,44 @@
+package com.red.yogaback.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    @Test
+    void 점수_내림차순_동점_같은_등수_테스트() {
+        // given
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.put(1L, 70);
+        leaderboard.put(2L, 90);
+        leaderboard.put(3L, 90);
+        leaderboard.put(4L, 50);
+
+        // when
+        List<Leaderboard.Standing> standings = leaderboard.standings();
+
+        // then
+        assertThat(standings).extracting(Leaderboard.Standing::getUserId).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(standings).extracting(Leaderboard.Standing::getRank).containsExactly(1, 1, 3, 4);
+    }
+
+    @Test
+    void 점수_갱신시_순위_재정렬_테스트() {
+        // given
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.put(1L, 80);
+        leaderboard.put(2L, 60);
+
+        // when
+        leaderboard.add(2L, 30);
+        leaderboard.put(1L, 10);
+
+        // then
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.scoreOf(2L)).isEqualTo(90);
+        assertThat(leaderboard.standings()).extracting(Leaderboard.Standing::getUserId).containsExactly(2L, 1L);
+    }
+}
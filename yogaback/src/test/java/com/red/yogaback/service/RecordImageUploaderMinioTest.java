@@ -0,0 +1,142 @@
+package com.red.yogaback.service;
+
+import com.red.yogaback.constant.ImageStatus;
+import com.red.yogaback.dto.projection.PendingImageRow;
+import com.red.yogaback.repository.PoseRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 S3 호환 서버(MinIO)에 대한 기록 사진 업로드 (aws.s3.endpoint 경로)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RecordImageUploaderMinioTest {
+
+    private static final String BUCKET = "yogayo-test";
+
+    @Container
+    private static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    @TempDir
+    Path spoolDir;
+
+    private S3Client s3Client;
+    private PoseRecordRepository poseRecordRepository;
+    private RecordImageUploader uploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        try {
+            s3Client.createBucket(request -> request.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException ignored) {
+            // 테스트마다 같은 컨테이너를 사용
+        }
+
+        S3FileStorageService storage = new S3FileStorageService(BUCKET, "us-east-1",
+                minio.getUserName(), minio.getPassword(), minio.getS3URL(), 16L * 1024 * 1024, 8 * 1024 * 1024);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        poseRecordRepository = mock(PoseRecordRepository.class);
+        uploader = new RecordImageUploader(storage, new ImageVariantProcessor(240, 960, 0.8f), poseRecordRepository,
+                new RoomResultCache(meterRegistry, 10), meterRegistry, spoolDir.toString(),
+                1, 10, 3, 10, 600_000, 100, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+        s3Client.close();
+    }
+
+    @Test
+    void 커밋_후_원본과_썸네일을_업로드하고_상태_반영_테스트() throws IOException {
+        // given
+        byte[] png = png(640, 480);
+        MockMultipartFile file = new MockMultipartFile("recordImg", "pose.png", "image/png", png);
+
+        // when
+        uploader.onCommitted(uploader.spool(1L, null, file));
+
+        // then
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> thumbUrl = ArgumentCaptor.forClass(String.class);
+        verify(poseRecordRepository, timeout(10_000)).updateRecordImages(eq(1L), url.capture(), thumbUrl.capture(),
+                any(), eq(640), eq(480), eq((long) png.length), eq(ImageStatus.UPLOADED));
+        assertThat(download(url.getValue())).isEqualTo(png);
+        assertThat(ImageIO.read(new ByteArrayInputStream(download(thumbUrl.getValue()))).getWidth()).isEqualTo(240);
+    }
+
+    @Test
+    void 재시작_후_남은_임시_파일은_sweep으로_업로드하고_없으면_실패_처리_테스트() throws IOException {
+        // given: 이전 프로세스가 남긴 임시 파일 (기록 2만 파일이 있음)
+        byte[] png = png(100, 100);
+        Files.write(spoolDir.resolve("record-2-leftover.upload"), png);
+        when(poseRecordRepository.findStaleImages(eq(ImageStatus.PENDING), anyLong(), any()))
+                .thenReturn(List.of(new PendingImageRow(2L, null), new PendingImageRow(3L, null)));
+        when(poseRecordRepository.updateImageStatus(3L, ImageStatus.PENDING, ImageStatus.FAILED)).thenReturn(1);
+
+        // when
+        uploader.sweep();
+
+        // then
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        verify(poseRecordRepository, timeout(10_000)).updateRecordImages(eq(2L), url.capture(), any(),
+                any(), eq(100), eq(100), eq((long) png.length), eq(ImageStatus.UPLOADED));
+        verify(poseRecordRepository).updateImageStatus(3L, ImageStatus.PENDING, ImageStatus.FAILED);
+        assertThat(download(url.getValue())).isEqualTo(png);
+        assertThat(s3Client.headObject(request -> request.bucket(BUCKET).key(keyOf(url.getValue()))).contentType())
+                .isEqualTo("image/png");
+    }
+
+    private byte[] download(String url) {
+        return s3Client.getObjectAsBytes(request -> request.bucket(BUCKET).key(keyOf(url))).asByteArray();
+    }
+
+    // endpoint 사용 시 URL은 {endpoint}/{bucket}/{key}
+    private String keyOf(String url) {
+        String prefix = minio.getS3URL() + "/" + BUCKET + "/";
+        assertThat(url).startsWith(prefix);
+        return url.substring(prefix.length());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}